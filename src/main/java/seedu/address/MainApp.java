@@ -2,10 +2,12 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -16,6 +18,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFileFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,8 +26,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedBinaryAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -40,6 +45,9 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Number of persons added to the model before the window is shown, and at each later step of loading. */
+    private static final int PERSONS_PER_LOAD_STEP = 1000;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -57,10 +65,19 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = userPrefs.getAddressBookFileFormat() == AddressBookFileFormat.BINARY
+                ? new MappedBinaryAddressBookStorage(userPrefs.getAddressBookFilePath())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        if (config.isJournalEnabled()) {
+            addressBookStorage = new JournalAddressBookStorage(addressBookStorage,
+                    config.getJournalCheckpointThreshold(),
+                    Duration.ofSeconds(config.getJournalCheckpointIntervalSeconds()));
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        model.decodePendingPersonsInBackground();
+        model.subscribeToTierChanges(change -> logger.info("Membership tier changed: " + change.getDescription()));
 
         logic = new LogicManager(model, storage);
 
@@ -90,7 +107,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, PERSONS_PER_LOAD_STEP);
     }
 
     private void initLogging(Config config) {
@@ -126,6 +143,7 @@ public class MainApp extends Application {
                     + " Using default config properties.");
             initializedConfig = new Config();
         }
+        resetInvalidJournalSettings(initializedConfig);
 
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
@@ -136,6 +154,23 @@ public class MainApp extends Application {
         return initializedConfig;
     }
 
+    /**
+     * Resets each journal checkpoint setting of {@code config} that is not positive to its default.
+     */
+    private void resetInvalidJournalSettings(Config config) {
+        if (config.getJournalCheckpointThreshold() <= 0) {
+            logger.warning("Invalid journal checkpoint threshold " + config.getJournalCheckpointThreshold()
+                    + " in config file. Using the default of " + Config.DEFAULT_JOURNAL_CHECKPOINT_THRESHOLD + ".");
+            config.setJournalCheckpointThreshold(Config.DEFAULT_JOURNAL_CHECKPOINT_THRESHOLD);
+        }
+        if (config.getJournalCheckpointIntervalSeconds() <= 0) {
+            logger.warning("Invalid journal checkpoint interval " + config.getJournalCheckpointIntervalSeconds()
+                    + " in config file. Using the default of "
+                    + Config.DEFAULT_JOURNAL_CHECKPOINT_INTERVAL_SECONDS + " seconds.");
+            config.setJournalCheckpointIntervalSeconds(Config.DEFAULT_JOURNAL_CHECKPOINT_INTERVAL_SECONDS);
+        }
+    }
+
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
@@ -172,11 +207,28 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        Platform.runLater(this::loadPendingPersons);
+    }
+
+    /**
+     * Adds the next persons of a partly loaded address book to the model, then lets the UI handle pending events
+     * before adding more, so that the app can be used while the rest of the address book loads.
+     */
+    private void loadPendingPersons() {
+        model.loadPendingPersons(PERSONS_PER_LOAD_STEP);
+        if (model.hasPendingPersons()) {
+            Platform.runLater(this::loadPendingPersons);
+        } else {
+            logger.info("Finished loading " + model.getAddressBook().getPersonList().size() + " persons");
+            model.getLoadFailure().ifPresent(failure -> ui.showWarning("The data file could not be loaded in full",
+                    String.format(LogicManager.MESSAGE_SAVE_BLOCKED, failure)));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.flushSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -13,10 +13,15 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_JOURNAL_CHECKPOINT_THRESHOLD = 1000;
+    public static final long DEFAULT_JOURNAL_CHECKPOINT_INTERVAL_SECONDS = 600;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = true;
+    private int journalCheckpointThreshold = DEFAULT_JOURNAL_CHECKPOINT_THRESHOLD;
+    private long journalCheckpointIntervalSeconds = DEFAULT_JOURNAL_CHECKPOINT_INTERVAL_SECONDS;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public int getJournalCheckpointThreshold() {
+        return journalCheckpointThreshold;
+    }
+
+    public void setJournalCheckpointThreshold(int journalCheckpointThreshold) {
+        this.journalCheckpointThreshold = journalCheckpointThreshold;
+    }
+
+    public long getJournalCheckpointIntervalSeconds() {
+        return journalCheckpointIntervalSeconds;
+    }
+
+    public void setJournalCheckpointIntervalSeconds(long journalCheckpointIntervalSeconds) {
+        this.journalCheckpointIntervalSeconds = journalCheckpointIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +76,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCheckpointThreshold == otherConfig.journalCheckpointThreshold
+                && journalCheckpointIntervalSeconds == otherConfig.journalCheckpointIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalEnabled, journalCheckpointThreshold,
+                journalCheckpointIntervalSeconds);
     }
 
     @Override
@@ -60,6 +93,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCheckpointThreshold", journalCheckpointThreshold)
+                .add("journalCheckpointIntervalSeconds", journalCheckpointIntervalSeconds)
                 .toString();
     }
 
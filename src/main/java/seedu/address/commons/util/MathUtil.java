@@ -0,0 +1,20 @@
+package seedu.address.commons.util;
+
+/**
+ * Helper functions for arithmetic on point values.
+ */
+public class MathUtil {
+
+    /**
+     * Returns {@code a + b}, or the nearest of {@code Long.MAX_VALUE} and {@code Long.MIN_VALUE} if the exact sum is
+     * out of range. Unlike {@link Math#addExact}, an overflow is not treated as an error, so adding never throws.
+     */
+    public static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        // The sum overflowed exactly when a and b have the same sign and the sum has the other sign
+        if (((a ^ sum) & (b ^ sum)) < 0) {
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sum;
+    }
+}
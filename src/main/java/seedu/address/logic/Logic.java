@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TierChange;
+import seedu.address.model.TierChangeBus;
 import seedu.address.model.item.Item;
 import seedu.address.model.person.Person;
 
@@ -24,6 +27,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that receives the error message when saving the data after a command fails.
+     * Data is saved in the background, so the handler is not called on the thread that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Waits for the saves running in the background to finish, and saves the data once more if the last one failed.
+     */
+    void flushSaves();
+
+    /**
+     * Subscribes {@code subscriber} to the changes of membership tier made by commands.
+     * Changes are delivered on a background thread, not the thread that executed the command.
+     *
+     * @see seedu.address.model.Model#subscribeToTierChanges(Consumer)
+     */
+    TierChangeBus.Subscription subscribeToTierChanges(Consumer<TierChange> subscriber);
+
     /**
      * Returns the AddressBook.
      *
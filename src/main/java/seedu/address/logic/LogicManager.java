@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +19,8 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TierChange;
+import seedu.address.model.TierChangeBus;
 import seedu.address.model.item.Item;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -28,12 +34,24 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_SAVE_BLOCKED = "%s\nChanges are not saved, so that the data file keeps the "
+            + "members left out. Fix the data file and restart the app, or use `clear --force` to start over "
+            + "with an empty address book.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // The loaded data may not be on disk yet (e.g. sample data), so the first command always saves.
+    // Reset by a failed save, which runs on the saver thread, so that the next command saves again.
+    private volatile long savedModificationCount;
+    private volatile boolean lastSaveFailed;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+    private long saveCount;
+    private long skippedSaveCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -41,6 +59,9 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        // An address book still being loaded was read from its file, so it is on disk already
+        savedModificationCount = model.hasPendingPersons() ? model.getAddressBookModificationCount() : -1;
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -49,19 +70,105 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (command.requiresAllPersons()) {
+            loadPendingPersons();
+        }
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            // Saves write out the whole address book
+            loadPendingPersons();
+        }
+
+        Optional<String> loadFailure = model.getLoadFailure();
+        if (loadFailure.isPresent()) {
+            // Saving would overwrite the persons that could not be loaded, so wait until the address book is reset
+            logger.warning("Not saving, as the address book was not loaded in full");
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n"
+                    + String.format(MESSAGE_SAVE_BLOCKED, loadFailure.get()),
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
+
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+        } else {
+            lastSaveFailed = false;
+            storage.saveAddressBookInBackground(model.getAddressBook());
+            savedModificationCount = modificationCount;
+            saveCount++;
         }
+        logger.fine("Saves requested: " + saveCount + ", saves skipped as nothing changed: " + skippedSaveCount);
 
         return commandResult;
     }
 
+    /**
+     * Adds the persons of the address book still being loaded to the model.
+     */
+    private void loadPendingPersons() {
+        if (model.hasPendingPersons()) {
+            logger.info("Loaded the remaining " + model.loadPendingPersons(Integer.MAX_VALUE) + " persons");
+        }
+    }
+
+    /**
+     * Returns the number of commands after which the address book was saved.
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book did not change.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Marks the address book as unsaved, so that it is saved again, and reports the failure.
+     */
+    private void handleSaveFailure(IOException e) {
+        savedModificationCount = -1;
+        lastSaveFailed = true;
+        String message = getSaveFailureMessage(e);
+        logger.warning(message);
+        saveFailureHandler.accept(message);
+    }
+
+    @Override
+    public void flushSaves() {
+        storage.flushBackgroundSaves();
+        if (lastSaveFailed && !model.getLoadFailure().isPresent()) {
+            logger.info("Saving again after the last save failed");
+            lastSaveFailed = false;
+            storage.saveAddressBookInBackground(model.getAddressBook());
+            storage.flushBackgroundSaves();
+        }
+    }
+
+    @Override
+    public TierChangeBus.Subscription subscribeToTierChanges(Consumer<TierChange> subscriber) {
+        return model.subscribeToTierChanges(subscriber);
+    }
+
+    /**
+     * Returns the message shown to the user when saving the data fails with {@code e}.
+     */
+    private static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -17,6 +17,12 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_PERSON_NOT_FOUND = "The specified person is not found.";
+    public static final String MESSAGE_AMBIGUOUS_PERSON =
+            "More than one person matches \"%1$s\": %2$s\nPlease enter more of the name.";
+    public static final String MESSAGE_AMBIGUOUS_CONTACT =
+            "More than one person has %1$s: %2$s\nPlease identify the person by name instead.";
+    public static final String MESSAGE_SHARED_PHONE = "\nNote: %1$s also has this phone number.";
+    public static final String MESSAGE_SHARED_EMAIL = "\nNote: %1$s also has this email.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -1,15 +1,13 @@
 package seedu.address.logic.commands;
 
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMSHIP_PTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-import java.util.Optional;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.LedgerEntry;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
@@ -25,41 +23,36 @@ public class AddMemPointsCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Add membership points to the person identified. "
             + "May upgrade the member's tier after adding points.\n"
-            + "Parameters: n/MEMBER_NAME " + PREFIX_MEMSHIP_PTS + "POINTS_TO_ADD\n"
+            + "Parameters: " + PersonReference.MESSAGE_USAGE + " " + PREFIX_MEMSHIP_PTS + "POINTS_TO_ADD\n"
             + "Example: " + COMMAND_WORD + " n/Alice "
             + PREFIX_MEMSHIP_PTS + "100";
     public static final String MESSAGE_ADD_MEMBERSHIP_SUCCESS = "Added %1$d membership point(s) to Person: %2$s";
-    private final Name name;
-    private final int pointsToAdd;
+    private final PersonReference person;
+    private final long pointsToAdd;
 
     /**
      * @param name of the person in the filtered person list to edit the remark
      * @param pointsToAdd of the person to be updated to
      */
-    public AddMemPointsCommand(Name name, int pointsToAdd) {
-        requireAllNonNull(name, pointsToAdd);
-        this.name = name;
+    public AddMemPointsCommand(Name name, long pointsToAdd) {
+        this(PersonReference.byName(name), pointsToAdd);
+    }
+
+    /**
+     * @param person identifies the person to add membership points to
+     * @param pointsToAdd of the person to be updated to
+     */
+    public AddMemPointsCommand(PersonReference person, long pointsToAdd) {
+        requireNonNull(person);
+        this.person = person;
         this.pointsToAdd = pointsToAdd;
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Optional<Person> personOptional = lastShownList.stream()
-                .filter(person -> person.getName().fullName.toLowerCase().contains(this.name.fullName.toLowerCase()))
-                .findFirst();
-
-        if (personOptional.isEmpty()) {
-            throw new CommandException(
-                    Messages.MESSAGE_PERSON_NOT_FOUND);
-        }
-
-        Person personToEdit = personOptional.get();
+        Person personToEdit = person.resolve(model, Messages.MESSAGE_PERSON_NOT_FOUND);
 
-        Person editedPerson = new Person(personToEdit.getName(),
-                personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getMembershipPoints().addPoints(pointsToAdd),
-                personToEdit.getAllergens(), personToEdit.getPoints(), personToEdit.getOrders());
+        Person editedPerson = personToEdit.withMembershipPoints(
+                personToEdit.getMembershipPoints().addPoints(pointsToAdd), LedgerEntry.Kind.MANUAL_ADD);
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -88,7 +81,7 @@ public class AddMemPointsCommand extends Command {
 
         // state check
         AddMemPointsCommand e = (AddMemPointsCommand) other;
-        return name.equals(e.name)
+        return person.equals(e.person)
                 && pointsToAdd == e.pointsToAdd;
     }
 }
@@ -6,14 +6,13 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemTable;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.orders.Order;
@@ -27,7 +26,7 @@ public class AddOrderCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds an order to the order list of the person identified by the given name.\n"
-            + "Parameters: n/MEMBER_NAME i/ITEM_NAME [q/QUANTITY]\n"
+            + "Parameters: " + PersonReference.MESSAGE_USAGE + " i/ITEM_NAME [q/QUANTITY]\n"
             + "NOTE: If quantity is not specified, it will default to 1.\n"
             + "Example: " + COMMAND_WORD + " n/Alex Yeoh i/Chocolate Chip Cookies 100g q/3";
 
@@ -35,7 +34,7 @@ public class AddOrderCommand extends Command {
 
     public static final String MESSAGE_ITEM_NOT_FOUND = "Item not found in the inventory";
 
-    public final Name name;
+    public final PersonReference person;
     public final String itemName;
     public final int quantity;
 
@@ -47,9 +46,18 @@ public class AddOrderCommand extends Command {
      * @param quantity of specified item ordered
      */
     public AddOrderCommand(Name name, String itemName, int quantity) {
-        requireAllNonNull(name, itemName, quantity);
+        this(PersonReference.byName(name), itemName, quantity);
+    }
+
+    /**
+     * @param person identifies the person to add the order to
+     * @param itemName name of item ordered
+     * @param quantity of specified item ordered
+     */
+    public AddOrderCommand(PersonReference person, String itemName, int quantity) {
+        requireAllNonNull(person, itemName, quantity);
 
-        this.name = name;
+        this.person = person;
         this.itemName = itemName;
         this.quantity = quantity;
         this.orderDateTime = null;
@@ -65,7 +73,7 @@ public class AddOrderCommand extends Command {
                            int quantity, LocalDateTime orderDateTime) {
         requireAllNonNull(name, itemName, quantity, orderDateTime);
 
-        this.name = name;
+        this.person = PersonReference.byName(name);
         this.itemName = itemName;
         this.quantity = quantity;
         this.orderDateTime = orderDateTime;
@@ -74,34 +82,25 @@ public class AddOrderCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Optional<Person> personOptional = lastShownList.stream()
-                .filter(person -> person.getName().fullName.toLowerCase().contains(this.name.fullName.toLowerCase()))
-                .findFirst();
-        if (personOptional.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
-        }
-
-        Person personToUpdate = personOptional.get();
+        Person personToUpdate = person.resolve(model, Messages.MESSAGE_PERSON_NOT_FOUND);
 
         //Find matching item in catalogue
         AddressBook addressBook = (AddressBook) model.getAddressBook();
-        Item item = addressBook.findItem(itemName);
-        if (isNull(item)) {
+        Item catalogueItem = addressBook.findItem(itemName);
+        if (isNull(catalogueItem)) {
             throw new CommandException(MESSAGE_ITEM_NOT_FOUND);
         }
+        // Orders keep the item as it is now, so share the canonical instance for its current points
+        Item item = ItemTable.intern(catalogueItem);
 
-        if (orderDateTime != null) {
-            personToUpdate.addOrders(new Order(item, quantity, orderDateTime));
-        } else {
-            personToUpdate.addOrders(new Order(item, quantity));
-        }
-
-        personToUpdate.addPoints(quantity * item.getPoints());
+        Order order = orderDateTime != null
+                ? new Order(item, quantity, orderDateTime)
+                : new Order(item, quantity);
+        Person updatedPerson = personToUpdate.withOrder(order, (long) quantity * item.getPoints());
 
+        model.setPerson(personToUpdate, updatedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(generateSuccessMessage(personToUpdate));
+        return new CommandResult(generateSuccessMessage(updatedPerson));
     }
 
     /**
@@ -124,14 +123,14 @@ public class AddOrderCommand extends Command {
         }
 
         AddOrderCommand e = (AddOrderCommand) other;
-        return name.equals(e.name)
+        return person.equals(e.person)
                 && itemName.equals(e.itemName) && (quantity == e.quantity);
     }
 
     @Override
     public String toString() {
         return "AddOrderCommand{"
-                + "personNamePredicate=" + name
+                + "personNamePredicate=" + person
                 + ", itemName='" + itemName + '\''
                 + ", quantity=" + quantity
                 + ", orderDateTime=" + orderDateTime
@@ -7,12 +7,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-import java.util.Optional;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.LedgerEntry;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Points;
@@ -25,11 +23,11 @@ public class AddPointsCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds points to the person identified. \n"
-            + "Parameters: " + PREFIX_NAME + "NAME " + PREFIX_POINTS + "POINTS \n"
+            + "Parameters: " + PersonReference.MESSAGE_USAGE + " " + PREFIX_POINTS + "POINTS \n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "John Doe " + PREFIX_POINTS + "40";
     public static final String MESSAGE_ADDPOINTS_SUCCESS =
             "Added %1$s point(s) to %2$s";
-    private final Name name;
+    private final PersonReference person;
     private final Points points;
 
     /**
@@ -40,33 +38,26 @@ public class AddPointsCommand extends Command {
      * @param points to be added to the persons current points
      */
     public AddPointsCommand(Name name, Points points) {
-        requireAllNonNull(name, points);
-        this.name = name;
+        this(PersonReference.byName(name), points);
+    }
+
+    /**
+     * Constructs an AddPointsCommand to add the specified {@code Points}
+     * to the person identified by {@code person}.
+     */
+    public AddPointsCommand(PersonReference person, Points points) {
+        requireAllNonNull(person, points);
+        this.person = person;
         this.points = points;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Optional<Person> personOptional = lastShownList.stream()
-                .filter(person -> person.getName().fullName.toLowerCase().contains(this.name.fullName.toLowerCase()))
-                .findFirst();
-
-        if (personOptional.isEmpty()) {
-            throw new CommandException(
-                    Messages.MESSAGE_PERSON_NOT_FOUND);
-        }
-
-        Person personToEdit = personOptional.get();
+        Person personToEdit = person.resolve(model, Messages.MESSAGE_PERSON_NOT_FOUND);
 
-        Points newPoints = new Points(Integer.toString(
-                personToEdit.getPoints().getValue() + this.points.getValue()));
+        Points newPoints = personToEdit.getPoints().addPoints(this.points.getValue());
 
-        Person editedPerson = new Person(personToEdit.getName(),
-                personToEdit.getPhone(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getMembershipPoints(),
-                personToEdit.getAllergens(), newPoints, personToEdit.getOrders());
+        Person editedPerson = personToEdit.withPoints(newPoints, LedgerEntry.Kind.MANUAL_ADD);
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -84,13 +75,13 @@ public class AddPointsCommand extends Command {
         }
 
         AddPointsCommand e = (AddPointsCommand) other;
-        return name.equals(e.name)
+        return person.equals(e.person)
                 && points.equals(e.points);
     }
 
-    private String generateSuccessMessage(Person person) {
+    private String generateSuccessMessage(Person editedPerson) {
         return String.format(
                 MESSAGE_ADDPOINTS_SUCCESS, this.points.value,
-                person.getName());
+                editedPerson.getName());
     }
 }
@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,39 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command needs every person of the address book, so that persons still being loaded must
+     * be added to the model before it runs. Commands that neither look up nor change persons need not wait.
+     */
+    public boolean requiresAllPersons() {
+        return true;
+    }
+
+    /**
+     * Returns notes naming the other persons in {@code model} that have the same phone number or email as
+     * {@code person}, or an empty string if there are none. Only the phone number and email that differ from
+     * {@code previousPerson} are checked, so that editing a person does not repeat notes about details left as they
+     * were. {@code previousPerson} may be null if {@code person} is new.
+     */
+    protected static String getSharedContactNotes(Model model, Person person, Person previousPerson) {
+        StringBuilder notes = new StringBuilder();
+        if (previousPerson == null || !previousPerson.getPhone().equals(person.getPhone())) {
+            appendNote(notes, Messages.MESSAGE_SHARED_PHONE, model.findPersonsByPhone(person.getPhone()), person);
+        }
+        if (previousPerson == null || !previousPerson.getEmail().equals(person.getEmail())) {
+            appendNote(notes, Messages.MESSAGE_SHARED_EMAIL, model.findPersonsByEmail(person.getEmail()), person);
+        }
+        return notes.toString();
+    }
+
+    private static void appendNote(StringBuilder notes, String message, List<Person> persons, Person person) {
+        String otherNames = persons.stream()
+                .filter(other -> !other.isSamePerson(person))
+                .map(other -> other.getName().fullName)
+                .collect(Collectors.joining(", "));
+        if (!otherNames.isEmpty()) {
+            notes.append(String.format(message, otherNames));
+        }
+    }
+
 }
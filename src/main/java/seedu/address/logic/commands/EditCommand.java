@@ -10,7 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -27,11 +27,13 @@ import seedu.address.model.Model;
 import seedu.address.model.allergen.Allergen;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.LedgerEntry;
 import seedu.address.model.person.MembershipPoints;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Points;
+import seedu.address.model.person.PointsLedger;
 import seedu.address.model.person.orders.Order;
 
 /**
@@ -94,13 +96,14 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson))
+                + getSharedContactNotes(model, editedPerson, personToEdit));
     }
 
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}. Orders of {@code personToEdit} is copied
-     * over to the returned {@code Person}.
+     * over to the returned {@code Person}, and any change to its points is recorded in its ledger.
      */
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
@@ -113,10 +116,18 @@ public class EditCommand extends Command {
                 editPersonDescriptor.getMembershipPoints().orElse(personToEdit.getMembershipPoints());
         Set<Allergen> updatedAllergens = editPersonDescriptor.getAllergens().orElse(personToEdit.getAllergens());
         Points updatedPoints = editPersonDescriptor.getPoints().orElse(personToEdit.getPoints());
-        ArrayList<Order> updatedOrders = editPersonDescriptor.getOrders().orElse(personToEdit.getOrders());
+        List<Order> updatedOrders = editPersonDescriptor.getOrders().orElse(personToEdit.getOrders());
+
+        PointsLedger updatedLedger = personToEdit.getLedger();
+        long pointsChange = updatedPoints.getValue() - personToEdit.getPoints().getValue();
+        long membershipPointsChange = updatedMembershipPoints.value - personToEdit.getMembershipPoints().value;
+        if (pointsChange != 0 || membershipPointsChange != 0) {
+            updatedLedger = updatedLedger.append(new LedgerEntry(LedgerEntry.Kind.EDIT, pointsChange,
+                    membershipPointsChange, LocalDateTime.now()));
+        }
 
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedMembershipPoints,
-                updatedAllergens, updatedPoints, updatedOrders);
+                updatedAllergens, updatedPoints, updatedOrders, updatedLedger);
     }
 
     @Override
@@ -154,7 +165,7 @@ public class EditCommand extends Command {
         private Address address;
         private Set<Allergen> allergens;
         private Points points;
-        private ArrayList<Order> orders;
+        private List<Order> orders;
         private MembershipPoints membershipPoints;
 
         public EditPersonDescriptor() {}
@@ -240,17 +251,18 @@ public class EditCommand extends Command {
 
         /**
          * Sets {@code orders} to this object's {@code orders}.
-         * A defensive copy of {@code orders} is used internally.
+         * An immutable copy of {@code orders} is used internally.
          */
-        public void setOrders(ArrayList<Order> orders) {
-            this.orders = (orders != null) ? new ArrayList<>(orders) : null;
+        public void setOrders(List<Order> orders) {
+            this.orders = (orders != null) ? List.copyOf(orders) : null;
         }
 
         /**
-         * Returns an order ArrayList
-         * Returns {@code Optional#empty()} if {@code ArrayList} is null.
+         * Returns an unmodifiable order list, which throws {@code UnsupportedOperationException}
+         * if modification is attempted.
+         * Returns {@code Optional#empty()} if {@code orders} is null.
          */
-        public Optional<ArrayList<Order>> getOrders() {
+        public Optional<List<Order>> getOrders() {
             return (orders != null) ? Optional.of(orders) : Optional.empty();
         }
 
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.allergen.AllergenExpression;
+import seedu.address.model.person.Name;
+
+/**
+ * Finds and lists all persons in address book whose allergens match an expression of allergens.
+ * Allergen matching is case insensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays all members whose allergens match the "
+            + "given allergens (case-insensitive), combined with and, or, not and brackets. "
+            + "not is applied first, then and, then or.\n"
+            + "Parameters: ALLERGEN [and|or ALLERGEN]...\n"
+            + "Example: " + COMMAND_WORD + " nuts or (gluten and not dairy)";
+
+    private final AllergenExpression expression;
+
+    /**
+     * Creates a FilterCommand that lists the persons whose allergens match {@code expression}.
+     */
+    public FilterCommand(AllergenExpression expression) {
+        requireNonNull(expression);
+        this.expression = expression;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Name> matchingNames = model.findPersonNamesWithAllergens(expression);
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return expression.equals(otherFilterCommand.expression);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .toString();
+    }
+}
@@ -2,36 +2,68 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In fuzzy mode, lists the persons whose name is closest to the keywords
+ * instead, allowing for typos.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_FLAG = "-f";
+
+    public static final int MAX_FUZZY_RESULTS = 10;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays all persons whose names contain ANY of "
             + "the specified keywords (case-insensitive)\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + FUZZY_FLAG + ", displays up to " + MAX_FUZZY_RESULTS + " persons whose names are closest to "
+            + "ALL the keywords, allowing for typos.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " alcie paulin";
 
     public static final String MESSAGE_NO_PERSONS_FOUND = "No persons found! Showing all persons instead.";
 
+    public static final String MESSAGE_SIMILAR_PERSONS_LISTED = "%1$d persons with similar names listed! "
+            + "Closest first: %2$s";
+
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that finds persons matching the keywords of {@code predicate},
+     * allowing for typos if {@code isFuzzy} is true.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (isFuzzy) {
+            return executeFuzzy(model);
+        }
+
+        // Look each name up in the name index, instead of splitting it into words for every keyword.
+        model.updateFilteredPersonList(model.personNameHasAnyWord(predicate.getKeywords()));
         if (model.getFilteredPersonList().isEmpty()) {
             model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(MESSAGE_NO_PERSONS_FOUND);
@@ -40,6 +72,20 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    private CommandResult executeFuzzy(Model model) {
+        List<Name> similarNames = model.findSimilarPersonNames(
+                String.join(" ", predicate.getKeywords()), MAX_FUZZY_RESULTS);
+        if (similarNames.isEmpty()) {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_NO_PERSONS_FOUND);
+        }
+
+        Set<Name> matchingNames = new HashSet<>(similarNames);
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
+        String closestFirst = similarNames.stream().map(name -> name.fullName).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SIMILAR_PERSONS_LISTED, similarNames.size(), closestFirst));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,13 +98,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isFuzzy == otherFindCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
@@ -28,8 +28,10 @@ public class HelpCommand extends Command {
             + DeleteItemCommand.COMMAND_WORD + " : Delete item" + "\n"
             + EditCommand.COMMAND_WORD + " : Edit member details" + "\n"
             + ExitCommand.COMMAND_WORD + " : Exit the program" + "\n"
+            + FilterCommand.COMMAND_WORD + " : Filter members by allergens" + "\n"
             + FindCommand.COMMAND_WORD + " : Find members" + "\n"
             + HelpCommand.COMMAND_WORD + " : Access user guide" + "\n"
+            + LedgerCommand.COMMAND_WORD + " : View points history" + "\n"
             + ListCommand.COMMAND_WORD + " : List all members" + "\n"
             + RedeemPointsCommand.COMMAND_WORD + " : Redeem points" + "\n"
             + SeedDataCommand.COMMAND_WORD + " : Seed data";
@@ -54,6 +56,11 @@ public class HelpCommand extends Command {
         }
     }
 
+    @Override
+    public boolean requiresAllPersons() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
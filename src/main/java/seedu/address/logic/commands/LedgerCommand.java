@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.LedgerEntry;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows one page of the points ledger of a person, newest entries first.
+ */
+public class LedgerCommand extends Command {
+
+    public static final String COMMAND_WORD = "ledger";
+
+    public static final int ENTRIES_PER_PAGE = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the history of points changes of the person identified, newest first, "
+            + ENTRIES_PER_PAGE + " entries per page.\n"
+            + "Parameters: " + PersonReference.MESSAGE_USAGE + " [" + PREFIX_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD + " n/Alice " + PREFIX_PAGE + "2";
+
+    public static final String MESSAGE_HEADER = "Points ledger of %1$s (page %2$d of %3$d):";
+    public static final String MESSAGE_ENTRY = "%1$s  %2$s  %3$+d pts, %4$+d membership pts"
+            + "  (balance: %5$d pts, %6$d membership pts)";
+    public static final String MESSAGE_BROUGHT_FORWARD = "Opening balance: %1$d pts, %2$d membership pts";
+    public static final String MESSAGE_NO_ENTRIES = "%1$s has no points ledger entries yet.";
+    public static final String MESSAGE_INVALID_PAGE = "Page %1$d does not exist. %2$s's ledger has %3$d page(s).";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final PersonReference person;
+    private final int page;
+
+    /**
+     * @param person identifies the person whose ledger is shown
+     * @param page the one-based page to show, page 1 holding the newest entries
+     */
+    public LedgerCommand(PersonReference person, int page) {
+        requireNonNull(person);
+        assert page > 0;
+        this.person = person;
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Person personToShow = person.resolve(model, Messages.MESSAGE_PERSON_NOT_FOUND);
+        List<LedgerEntry> ledger = personToShow.getLedger();
+        if (ledger.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_ENTRIES, personToShow.getName()));
+        }
+
+        int pageCount = (ledger.size() + ENTRIES_PER_PAGE - 1) / ENTRIES_PER_PAGE;
+        if (page > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, page, personToShow.getName(), pageCount));
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_HEADER, personToShow.getName(), page,
+                pageCount));
+        // Balances are only kept for now, so walk back from the newest entry to find the balance after each one
+        long points = personToShow.getPoints().value;
+        long membershipPoints = personToShow.getMembershipPoints().value;
+        int pageStart = ledger.size() - (page - 1) * ENTRIES_PER_PAGE;
+        int pageEnd = Math.max(pageStart - ENTRIES_PER_PAGE, 0);
+        for (int i = ledger.size() - 1; i >= pageEnd; i--) {
+            LedgerEntry entry = ledger.get(i);
+            if (i < pageStart) {
+                builder.append('\n').append(String.format(MESSAGE_ENTRY, TIME_FORMAT.format(entry.getTime()),
+                        entry.getKind(), entry.getPointsChange(), entry.getMembershipPointsChange(), points,
+                        membershipPoints));
+            }
+            points -= entry.getPointsChange();
+            membershipPoints -= entry.getMembershipPointsChange();
+        }
+        if (pageEnd == 0) {
+            builder.append('\n').append(String.format(MESSAGE_BROUGHT_FORWARD, points, membershipPoints));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LedgerCommand)) {
+            return false;
+        }
+
+        LedgerCommand otherCommand = (LedgerCommand) other;
+        return person.equals(otherCommand.person)
+                && page == otherCommand.page;
+    }
+}
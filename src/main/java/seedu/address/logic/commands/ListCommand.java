@@ -21,4 +21,10 @@ public class ListCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean requiresAllPersons() {
+        // Persons still being loaded show up in the list as they are added
+        return false;
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Identifies the person a command acts on, by name, phone number or email.
+ * A name may be only part of the person's name and is looked up in the filtered person list.
+ * A phone number or email must match exactly and is looked up in the whole address book.
+ */
+public class PersonReference {
+
+    public static final String MESSAGE_USAGE = PREFIX_NAME + "MEMBER_NAME | " + PREFIX_PHONE + "MEMBER_PHONE | "
+            + PREFIX_EMAIL + "MEMBER_EMAIL";
+
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+
+    private PersonReference(Name name, Phone phone, Email email) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+    }
+
+    /**
+     * Returns a reference to the person whose name contains {@code name}, ignoring case.
+     */
+    public static PersonReference byName(Name name) {
+        requireNonNull(name);
+        return new PersonReference(name, null, null);
+    }
+
+    /**
+     * Returns a reference to the person with the given {@code phone}.
+     */
+    public static PersonReference byPhone(Phone phone) {
+        requireNonNull(phone);
+        return new PersonReference(null, phone, null);
+    }
+
+    /**
+     * Returns a reference to the person with the given {@code email}.
+     */
+    public static PersonReference byEmail(Email email) {
+        requireNonNull(email);
+        return new PersonReference(null, null, email);
+    }
+
+    /**
+     * Returns the person in {@code model} that this reference identifies.
+     * When looking up by name, a person whose whole name matches is chosen over persons whose name only contains it.
+     *
+     * @throws CommandException with {@code notFoundMessage} if no person matches,
+     *     or listing the matching persons if more than one does.
+     */
+    public Person resolve(Model model, String notFoundMessage) throws CommandException {
+        requireNonNull(model);
+        if (phone != null) {
+            return getOnlyMatch(model.findPersonsByPhone(phone), notFoundMessage);
+        }
+        if (email != null) {
+            return getOnlyMatch(model.findPersonsByEmail(email), notFoundMessage);
+        }
+
+        List<Person> matches = model.findFilteredPersonsByName(name.fullName);
+        for (Person match : matches) {
+            if (matches.size() > 1 && match.getName().fullName.equalsIgnoreCase(name.fullName)) {
+                return match;
+            }
+        }
+        return getOnlyMatch(matches, notFoundMessage);
+    }
+
+    private Person getOnlyMatch(List<Person> matches, String notFoundMessage) throws CommandException {
+        if (matches.isEmpty()) {
+            throw new CommandException(notFoundMessage);
+        }
+        if (matches.size() > 1) {
+            String matchingNames = matches.stream()
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            String message = name != null ? Messages.MESSAGE_AMBIGUOUS_PERSON : Messages.MESSAGE_AMBIGUOUS_CONTACT;
+            throw new CommandException(String.format(message, this, matchingNames));
+        }
+        return matches.get(0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonReference)) {
+            return false;
+        }
+
+        PersonReference otherReference = (PersonReference) other;
+        return Objects.equals(name, otherReference.name)
+                && Objects.equals(phone, otherReference.phone)
+                && Objects.equals(email, otherReference.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email);
+    }
+
+    @Override
+    public String toString() {
+        if (phone != null) {
+            return phone.toString();
+        }
+        return email != null ? email.toString() : name.toString();
+    }
+}
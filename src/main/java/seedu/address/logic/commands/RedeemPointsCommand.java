@@ -5,12 +5,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-import java.util.Optional;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.LedgerEntry;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Points;
@@ -24,7 +22,7 @@ public class RedeemPointsCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Redeems points from the person identified. \n"
-            + "Parameters: " + PREFIX_NAME + "NAME " + PREFIX_POINTS + "POINTS \n"
+            + "Parameters: " + PersonReference.MESSAGE_USAGE + " " + PREFIX_POINTS + "POINTS \n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "John Doe " + PREFIX_POINTS + "30";
 
     public static final String MESSAGE_REDEEMPOINTS_SUCCESS =
@@ -32,7 +30,7 @@ public class RedeemPointsCommand extends Command {
     public static final String MESSAGE_INSUFFICIENT_POINTS =
             "%s has insufficient points (%s pts) to redeem.";
 
-    private final Name name;
+    private final PersonReference person;
     private final Points pointsToRedeem;
 
     /**
@@ -43,39 +41,34 @@ public class RedeemPointsCommand extends Command {
      * @param pointsToRedeem to be subtracted from the person's current points
      */
     public RedeemPointsCommand(Name name, Points pointsToRedeem) {
-        requireAllNonNull(name, pointsToRedeem);
-        this.name = name;
+        this(PersonReference.byName(name), pointsToRedeem);
+    }
+
+    /**
+     * Constructs a RedeemPointsCommand to redeem the specified {@code Points}
+     * from the person identified by {@code person}.
+     */
+    public RedeemPointsCommand(PersonReference person, Points pointsToRedeem) {
+        requireAllNonNull(person, pointsToRedeem);
+        this.person = person;
         this.pointsToRedeem = pointsToRedeem;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Optional<Person> personOptional = lastShownList.stream()
-                .filter(person -> person.getName().fullName.toLowerCase().contains(this.name.fullName.toLowerCase()))
-                .findFirst();
-
-        if (personOptional.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToEdit = personOptional.get();
+        Person personToEdit = person.resolve(model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
 
-        int currentPointsValue = personToEdit.getPoints().getValue();
-        int pointsToRedeemValue = this.pointsToRedeem.getValue();
+        long currentPointsValue = personToEdit.getPoints().getValue();
+        long pointsToRedeemValue = this.pointsToRedeem.getValue();
 
         if (currentPointsValue < pointsToRedeemValue) {
             throw new CommandException(
                     String.format(MESSAGE_INSUFFICIENT_POINTS, personToEdit.getName(), currentPointsValue));
         }
 
-        Points newPoints = new Points(Integer.toString(currentPointsValue - pointsToRedeemValue));
+        Points newPoints = new Points(currentPointsValue - pointsToRedeemValue);
 
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
-                personToEdit.getEmail(), personToEdit.getAddress(),
-                personToEdit.getMembershipPoints(), personToEdit.getAllergens(),
-                newPoints, personToEdit.getOrders());
+        Person editedPerson = personToEdit.withPoints(newPoints, LedgerEntry.Kind.REDEEM);
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -92,10 +85,10 @@ public class RedeemPointsCommand extends Command {
         }
 
         RedeemPointsCommand e = (RedeemPointsCommand) other;
-        return name.equals(e.name) && pointsToRedeem.equals(e.pointsToRedeem);
+        return person.equals(e.person) && pointsToRedeem.equals(e.pointsToRedeem);
     }
 
-    private String generateSuccessMessage(Person person, int pointsToRedeem) {
-        return String.format(MESSAGE_REDEEMPOINTS_SUCCESS, pointsToRedeem, person.getName());
+    private String generateSuccessMessage(Person editedPerson, long pointsToRedeem) {
+        return String.format(MESSAGE_REDEEMPOINTS_SUCCESS, pointsToRedeem, editedPerson.getName());
     }
 }
@@ -37,15 +37,20 @@ public class AddItemCommandParser implements Parser<AddItemCommand> {
             throw new ParseException(Item.MESSAGE_CONSTRAINTS + "\n" + AddItemCommand.MESSAGE_USAGE);
         }
 
-        int points;
+        long points;
         try {
             points = ParserUtil.parseMemPointsToAdd(argMultimap.getValue(PREFIX_POINTS).orElse(""));
         } catch (ParseException pe) {
             throw new ParseException(AddItemCommand.INVALID_COMMAND_FORMAT
                     + "\n" + AddItemCommand.MESSAGE_USAGE);
         }
+        // Points per unit are kept as an int; only totals across orders need a long
+        if (points > Integer.MAX_VALUE) {
+            throw new ParseException(AddItemCommand.INVALID_COMMAND_FORMAT
+                    + "\n" + AddItemCommand.MESSAGE_USAGE);
+        }
 
-        Item item = new Item(itemName, points);
+        Item item = new Item(itemName, (int) points);
         return new AddItemCommand(item);
 
     }
@@ -1,14 +1,17 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMSHIP_PTS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddMemPointsCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.Name;
 
 /**
  * Parses input arguments and creates a new {@code MembershipPoints Command} object
@@ -22,29 +25,33 @@ public class AddMemPointsCommandParser implements Parser<AddMemPointsCommand> {
      */
     public AddMemPointsCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_MEMSHIP_PTS);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_MEMSHIP_PTS);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_MEMSHIP_PTS)) {
+        if (!arePrefixesPresent(argMultimap, PREFIX_MEMSHIP_PTS)) {
             throw new ParseException(String.format(AddMemPointsCommand.INVALID_COMMAND_FORMAT
                     + "\n" + AddMemPointsCommand.MESSAGE_USAGE));
         }
 
-        Name name;
+        Optional<PersonReference> person;
         try {
-            name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).orElse(""));
-            new ParseException(Name.MESSAGE_CONSTRAINTS + "\n" + AddMemPointsCommand.MESSAGE_USAGE);
+            person = ParserUtil.parsePersonReference(argMultimap);
         } catch (ParseException pe) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS + "\n" + AddMemPointsCommand.MESSAGE_USAGE);
+            throw new ParseException(pe.getMessage() + "\n" + AddMemPointsCommand.MESSAGE_USAGE);
+        }
+        if (person.isEmpty()) {
+            throw new ParseException(AddMemPointsCommand.INVALID_COMMAND_FORMAT
+                    + "\n" + AddMemPointsCommand.MESSAGE_USAGE);
         }
 
-        int pointsToAdd;
+        long pointsToAdd;
         try {
             pointsToAdd = ParserUtil.parseMemPointsToAdd(argMultimap.getValue(PREFIX_MEMSHIP_PTS).orElse(""));
         } catch (ParseException pe) {
             throw new ParseException(AddMemPointsCommand.MESSAGE_CONSTRAINTS);
         }
 
-        return new AddMemPointsCommand(name, pointsToAdd);
+        return new AddMemPointsCommand(person.get(), pointsToAdd);
     }
 
     private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
@@ -2,15 +2,17 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ITEM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QTY;
 
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddOrderCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.orders.Order;
 
 /**
@@ -26,14 +28,15 @@ public class AddOrderCommandParser implements Parser<AddOrderCommand> {
     public AddOrderCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_NAME, PREFIX_ITEM, PREFIX_QTY);
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ITEM, PREFIX_QTY);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ITEM)
+        if (!arePrefixesPresent(argMultimap, PREFIX_ITEM)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddOrderCommand.MESSAGE_USAGE));
         }
 
-        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).orElse(""));
+        PersonReference person = ParserUtil.parsePersonReference(argMultimap).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddOrderCommand.MESSAGE_USAGE)));
 
         // Item name should not be empty
         String trimmedItemName = argMultimap.getValue(PREFIX_ITEM).get().trim();
@@ -56,7 +59,7 @@ public class AddOrderCommandParser implements Parser<AddOrderCommand> {
             throw new ParseException(Order.MESSAGE_INVALID_QUANTITY);
         }
 
-        return new AddOrderCommand(name, trimmedItemName, quantity);
+        return new AddOrderCommand(person, trimmedItemName, quantity);
     }
 
     private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
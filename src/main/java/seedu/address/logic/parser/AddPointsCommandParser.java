@@ -2,14 +2,16 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
 
 import java.util.Optional;
 
 import seedu.address.logic.commands.AddPointsCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Points;
 
 /**
@@ -26,20 +28,21 @@ public class AddPointsCommandParser implements Parser<AddPointsCommand> {
     public AddPointsCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_POINTS);
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_POINTS);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_POINTS)
+        if (!arePrefixesPresent(argMultimap, PREFIX_POINTS)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddPointsCommand.MESSAGE_USAGE));
         }
 
-        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).orElse(""));
+        PersonReference person = ParserUtil.parsePersonReference(argMultimap).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddPointsCommand.MESSAGE_USAGE)));
         Points points = ParserUtil.parsePoints(argMultimap.getValue(PREFIX_POINTS).orElse(""));
         if (points.value == 0) {
             throw new ParseException(AddPointsCommand.MESSAGE_CONSTRAINTS);
         }
 
-        return new AddPointsCommand(name, points);
+        return new AddPointsCommand(person, points);
     }
 
     /**
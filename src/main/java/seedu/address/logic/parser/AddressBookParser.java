@@ -19,8 +19,10 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteItemCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LedgerCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedeemPointsCommand;
 import seedu.address.logic.commands.SeedDataCommand;
@@ -78,6 +80,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case AddMemPointsCommand.COMMAND_WORD:
             return new AddMemPointsCommandParser().parse(arguments);
 
@@ -105,6 +110,9 @@ public class AddressBookParser {
         case RedeemPointsCommand.COMMAND_WORD:
             return new RedeemPointsCommandParser().parse(arguments);
 
+        case LedgerCommand.COMMAND_WORD:
+            return new LedgerCommandParser().parse(arguments);
+
 
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
@@ -15,5 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_POINTS = new Prefix("p/");
     public static final Prefix PREFIX_ITEM = new Prefix("i/");
     public static final Prefix PREFIX_QTY = new Prefix("q/");
+    public static final Prefix PREFIX_PAGE = new Prefix("pg/");
 
 }
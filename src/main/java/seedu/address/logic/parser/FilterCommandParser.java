@@ -0,0 +1,103 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.allergen.AllergenExpression;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        Deque<String> tokens = new ArrayDeque<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(args);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        AllergenExpression expression = parseEither(tokens);
+        if (!tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FilterCommand(expression);
+    }
+
+    /**
+     * Parses allergens joined by {@code or}, which binds more loosely than {@code and}.
+     */
+    private static AllergenExpression parseEither(Deque<String> tokens) throws ParseException {
+        AllergenExpression expression = parseBoth(tokens);
+        while (isNext(tokens, OR)) {
+            tokens.pop();
+            expression = expression.or(parseBoth(tokens));
+        }
+        return expression;
+    }
+
+    private static AllergenExpression parseBoth(Deque<String> tokens) throws ParseException {
+        AllergenExpression expression = parseSingle(tokens);
+        while (isNext(tokens, AND)) {
+            tokens.pop();
+            expression = expression.and(parseSingle(tokens));
+        }
+        return expression;
+    }
+
+    /**
+     * Parses an allergen, a bracketed expression, or either of them preceded by {@code not}.
+     */
+    private static AllergenExpression parseSingle(Deque<String> tokens) throws ParseException {
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        String token = tokens.pop();
+        if (token.equalsIgnoreCase(NOT)) {
+            return parseSingle(tokens).negate();
+        }
+        if (token.equals("(")) {
+            AllergenExpression expression = parseEither(tokens);
+            if (!isNext(tokens, ")")) {
+                throw invalidFormat();
+            }
+            tokens.pop();
+            return expression;
+        }
+        if (token.equals(")") || token.equalsIgnoreCase(AND) || token.equalsIgnoreCase(OR)) {
+            throw invalidFormat();
+        }
+        return AllergenExpression.of(ParserUtil.parseAllergen(token));
+    }
+
+    private static boolean isNext(Deque<String> tokens, String token) {
+        return !tokens.isEmpty() && tokens.peek().toLowerCase(Locale.ROOT).equals(token);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.LedgerCommand;
+import seedu.address.logic.commands.PersonReference;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LedgerCommand object
+ */
+public class LedgerCommandParser implements Parser<LedgerCommand> {
+
+    public static final String MESSAGE_INVALID_PAGE = "Page should be a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LedgerCommand
+     * and returns a LedgerCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LedgerCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_PAGE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAGE);
+
+        Optional<PersonReference> person;
+        try {
+            person = ParserUtil.parsePersonReference(argMultimap);
+        } catch (ParseException pe) {
+            throw new ParseException(pe.getMessage() + "\n" + LedgerCommand.MESSAGE_USAGE);
+        }
+        if (person.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LedgerCommand.MESSAGE_USAGE));
+        }
+
+        int page = 1;
+        if (argMultimap.getValue(PREFIX_PAGE).isPresent()) {
+            String trimmedPage = argMultimap.getValue(PREFIX_PAGE).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedPage)) {
+                throw new ParseException(MESSAGE_INVALID_PAGE);
+            }
+            page = Integer.parseInt(trimmedPage);
+        }
+
+        return new LedgerCommand(person.get(), page);
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddMemPointsCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.allergen.Allergen;
 import seedu.address.model.person.Address;
@@ -55,6 +61,32 @@ public class ParserUtil {
         return new Name(trimmedName);
     }
 
+    /**
+     * Parses the person identified by whichever one of the name, phone and email prefixes is in {@code argMultimap}.
+     * Returns an empty {@code Optional} if none or more than one of them is present, so that callers can report
+     * their own usage message.
+     *
+     * @throws ParseException if the given name, phone or email is invalid.
+     */
+    public static Optional<PersonReference> parsePersonReference(ArgumentMultimap argMultimap)
+            throws ParseException {
+        requireNonNull(argMultimap);
+        Optional<String> name = argMultimap.getValue(PREFIX_NAME);
+        Optional<String> phone = argMultimap.getValue(PREFIX_PHONE);
+        Optional<String> email = argMultimap.getValue(PREFIX_EMAIL);
+        if (Stream.of(name, phone, email).filter(Optional::isPresent).count() != 1) {
+            return Optional.empty();
+        }
+
+        if (phone.isPresent()) {
+            return Optional.of(PersonReference.byPhone(parsePhone(phone.get())));
+        }
+        if (email.isPresent()) {
+            return Optional.of(PersonReference.byEmail(parseEmail(email.get())));
+        }
+        return Optional.of(PersonReference.byName(parseName(name.get())));
+    }
+
     /**
      * Parses a {@code String phone} into a {@code Phone}.
      * Leading and trailing whitespaces will be trimmed.
@@ -106,12 +138,13 @@ public class ParserUtil {
      *
      * @throws ParseException if the given {@code membershipPts} is invalid.
      */
-    public static int parseMemPointsToAdd(String pointsToAdd) throws ParseException {
+    public static long parseMemPointsToAdd(String pointsToAdd) throws ParseException {
         requireNonNull(pointsToAdd);
 
-        int parsedPointsToAdd;
+        long parsedPointsToAdd;
         try {
-            parsedPointsToAdd = Integer.parseInt(pointsToAdd);
+            // Values too large for a long are rejected here rather than overflowing later
+            parsedPointsToAdd = Long.parseLong(pointsToAdd);
         } catch (NumberFormatException e) {
             throw new ParseException(AddMemPointsCommand.MESSAGE_CONSTRAINTS);
         }
@@ -172,18 +205,18 @@ public class ParserUtil {
     public static MembershipPoints parseMembershipPoints(String membershipPoints) throws ParseException {
         requireNonNull(membershipPoints);
         String trimmedMembershipPoints = membershipPoints.trim();
-        int membershipPointsInt;
+        long membershipPointsValue;
 
         try {
-            membershipPointsInt = Integer.parseInt(trimmedMembershipPoints);
+            membershipPointsValue = Long.parseLong(trimmedMembershipPoints);
         } catch (NumberFormatException e) {
             throw new ParseException(MESSAGE_INVALID_POINTS);
         }
 
-        if (!MembershipPoints.isValidMembershipPoints(membershipPointsInt)) {
+        if (!MembershipPoints.isValidMembershipPoints(membershipPointsValue)) {
             throw new ParseException(MESSAGE_INVALID_POINTS);
         }
-        return new MembershipPoints(trimmedMembershipPoints);
+        return new MembershipPoints(membershipPointsValue);
     }
 
 }
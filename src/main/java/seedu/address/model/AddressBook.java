@@ -2,14 +2,22 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.allergen.AllergenExpression;
 import seedu.address.model.item.Catalogue;
 import seedu.address.model.item.Item;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tier;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -63,6 +71,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+
+        // Another AddressBook is known to be free of duplicates, so copy it without checking again.
+        if (newData instanceof AddressBook) {
+            AddressBook otherAddressBook = (AddressBook) newData;
+            persons.setPersons(otherAddressBook.persons);
+            catalogue.setItems(otherAddressBook.catalogue);
+            return;
+        }
+
         setPersons(newData.getPersonList());
         setItems(newData.getItemList());
     }
@@ -104,6 +121,64 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns a test of whether a person has any of {@code words} as a whole word of their name, ignoring case,
+     * that looks the name up in the name index of this address book as it is when tested.
+     */
+    public Predicate<Person> personNameHasAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return persons.nameHasAnyWord(words);
+    }
+
+    /**
+     * Returns the names of up to {@code limit} persons whose name is similar to {@code text}, allowing for typos,
+     * closest first.
+     */
+    public List<Name> findSimilarPersonNames(String text, int limit) {
+        requireNonNull(text);
+        return persons.findSimilarNames(text, limit);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code namePart}, ignoring case, sorted by name.
+     */
+    public List<Person> findPersonsByNameContaining(String namePart) {
+        requireNonNull(namePart);
+        return persons.findByNameContaining(namePart);
+    }
+
+    /**
+     * Returns the persons with the given {@code phone}, sorted by name.
+     */
+    public List<Person> findPersonsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the persons with the given {@code email}, sorted by name.
+     */
+    public List<Person> findPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return persons.findByEmail(email);
+    }
+
+    /**
+     * Returns the number of persons whose membership is in {@code tier}.
+     */
+    public int countPersonsInTier(Tier tier) {
+        requireNonNull(tier);
+        return persons.countInTier(tier);
+    }
+
+    /**
+     * Returns the names of the persons whose allergens match {@code expression}.
+     */
+    public Set<Name> findPersonNamesWithAllergens(AllergenExpression expression) {
+        requireNonNull(expression);
+        return persons.findNamesWithAllergens(expression);
+    }
+
     public Item findItem(String name) {
         return catalogue.findItem(name);
     }
@@ -130,6 +205,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns a number that changes whenever the persons or items in this address book change.
+     * Comparing it with an earlier value tells whether anything changed in between.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount() + catalogue.getModificationCount();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book data file can be kept in.
+ */
+public enum AddressBookFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary snapshot, which is smaller and quicker to load and save than JSON. */
+    BINARY
+}
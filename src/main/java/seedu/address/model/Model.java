@@ -1,12 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.allergen.AllergenExpression;
 import seedu.address.model.item.Item;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tier;
 
 /**
  * The API of the Model component.
@@ -53,6 +63,35 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the data in the address book changes.
+     * Adding the persons of the address book being loaded does not change it, as they are in its file already.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns true if persons of the address book being loaded are still to be added to the model.
+     */
+    boolean hasPendingPersons();
+
+    /**
+     * Adds up to {@code count} of the persons still to be loaded to the model, in the order they were read.
+     * Returns the number of persons added.
+     */
+    int loadPendingPersons(int count);
+
+    /**
+     * Starts decoding the persons still to be loaded on a background thread, so that adding them to the model
+     * takes less time on the thread that adds them.
+     */
+    void decodePendingPersonsInBackground();
+
+    /**
+     * Returns why some persons of the address book being loaded could not be added to the model, or an empty
+     * {@code Optional} if they all were or are still being added. Setting the address book clears the failure.
+     */
+    Optional<String> getLoadFailure();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,9 +116,56 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Subscribes {@code subscriber} to the changes of membership tier made through {@link #setPerson}.
+     * Changes are delivered on a background thread, and dropped for the subscriber if it falls too far behind.
+     *
+     * @see TierChangeBus
+     */
+    TierChangeBus.Subscription subscribeToTierChanges(Consumer<TierChange> subscriber);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the persons in the filtered person list whose name contains {@code namePart}, ignoring case,
+     * sorted by name.
+     */
+    List<Person> findFilteredPersonsByName(String namePart);
+
+    /**
+     * Returns the persons in the address book with the given {@code phone}, sorted by name.
+     */
+    List<Person> findPersonsByPhone(Phone phone);
+
+    /**
+     * Returns the persons in the address book with the given {@code email}, sorted by name.
+     */
+    List<Person> findPersonsByEmail(Email email);
+
+    /**
+     * Returns the number of persons in the address book whose membership is in {@code tier}.
+     */
+    int countPersonsInTier(Tier tier);
+
+    /**
+     * Returns the names of the persons in the address book whose allergens match {@code expression}.
+     */
+    Set<Name> findPersonNamesWithAllergens(AllergenExpression expression);
+
+    /**
+     * Returns a test of whether a person has any of {@code words} as a whole word of their name, ignoring case.
+     * The name is looked up in the address book's name index when tested, so a filter by the test keeps up with
+     * persons added or renamed later.
+     */
+    Predicate<Person> personNameHasAnyWord(Collection<String> words);
+
+    /**
+     * Returns the names of up to {@code limit} persons in the address book whose name is similar to {@code text},
+     * allowing for typos, closest first.
+     */
+    List<Name> findSimilarPersonNames(String text, int limit);
+
     /** Returns an unmodifiable view of the catalogue */
     ObservableList<Item> getCatalogue();
 
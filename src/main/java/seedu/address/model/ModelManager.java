@@ -3,7 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,18 +18,39 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.allergen.AllergenExpression;
 import seedu.address.model.item.Item;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tier;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_LOAD_FAILURE =
+            "Member #%1$d of the data file could not be loaded, so the %2$d members from it on are left out: %3$s";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final AtomicReferenceArray<Person> NO_DECODED_PERSONS = new AtomicReferenceArray<>(0);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final TierChangeBus tierChangeBus = new TierChangeBus();
+
+    // Persons of the address book being loaded, of which those from pendingPersonIndex on are not added yet
+    private List<Person> pendingPersons = List.of();
+    private volatile int pendingPersonIndex;
+    // Pending persons decoded ahead in the background, by their index in pendingPersons
+    private volatile AtomicReferenceArray<Person> decodedPersons = NO_DECODED_PERSONS;
+    // Modifications made by adding pending persons, which only add what is in the file already
+    private long loadModificationCount;
+    // Why the address book could not be loaded in full, or null if it was
+    private String loadFailure;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,6 +65,20 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
     }
 
+    /**
+     * Initializes a ModelManager with the items of {@code addressBook}, up to {@code initialPersonCount} of its
+     * persons, and the given userPrefs. The remaining persons are added by {@link #loadPendingPersons(int)}.
+     * This lets an address book whose persons are decoded as they are accessed be shown before all of them are.
+     * The persons of an {@code AddressBook} are already in memory, so they are all added at once.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int initialPersonCount) {
+        this(addressBook instanceof AddressBook ? addressBook : withItemsOf(addressBook), userPrefs);
+        if (!(addressBook instanceof AddressBook)) {
+            pendingPersons = addressBook.getPersonList();
+            loadPendingPersons(initialPersonCount);
+        }
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
@@ -81,6 +123,10 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        decodedPersons = NO_DECODED_PERSONS;
+        pendingPersons = List.of();
+        pendingPersonIndex = 0;
+        loadFailure = null;
     }
 
     @Override
@@ -88,6 +134,83 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount() - loadModificationCount;
+    }
+
+    @Override
+    public boolean hasPendingPersons() {
+        return pendingPersonIndex < pendingPersons.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * If a person cannot be read or is a duplicate, the persons from it on are left out, loading ends and
+     * {@link #getLoadFailure()} says why.
+     */
+    @Override
+    public int loadPendingPersons(int count) {
+        int start = pendingPersonIndex;
+        int end = (int) Math.min((long) start + count, pendingPersons.size());
+        AtomicReferenceArray<Person> decoded = decodedPersons;
+        long modificationCountBefore = addressBook.getModificationCount();
+        try {
+            for (; pendingPersonIndex < end; pendingPersonIndex++) {
+                Person person = decoded.length() > 0 ? decoded.getAndSet(pendingPersonIndex, null) : null;
+                addressBook.addPerson(person != null ? person : pendingPersons.get(pendingPersonIndex));
+            }
+        } catch (UncheckedIOException | DuplicatePersonException e) {
+            loadFailure = String.format(MESSAGE_LOAD_FAILURE, pendingPersonIndex + 1,
+                    pendingPersons.size() - pendingPersonIndex, e.getMessage());
+            logger.warning(loadFailure);
+            pendingPersons = List.of();
+        }
+        loadModificationCount += addressBook.getModificationCount() - modificationCountBefore;
+
+        int loaded = pendingPersonIndex - start;
+        if (!hasPendingPersons()) {
+            // Let go of the persons still to be decoded, and of the file they are decoded from
+            decodedPersons = NO_DECODED_PERSONS;
+            pendingPersons = List.of();
+            pendingPersonIndex = 0;
+        }
+        return loaded;
+    }
+
+    @Override
+    public void decodePendingPersonsInBackground() {
+        if (!hasPendingPersons()) {
+            return;
+        }
+        List<Person> persons = pendingPersons;
+        AtomicReferenceArray<Person> decoded = new AtomicReferenceArray<>(persons.size());
+        decodedPersons = decoded;
+        Thread decoder = new Thread(() -> decodeAhead(persons, decoded), "person-decoder");
+        decoder.setDaemon(true);
+        decoder.start();
+    }
+
+    /**
+     * Decodes {@code persons} into {@code decoded}, skipping those already added, until all are decoded or loading
+     * ends. A person that cannot be read is left for {@link #loadPendingPersons(int)} to report.
+     */
+    private void decodeAhead(List<Person> persons, AtomicReferenceArray<Person> decoded) {
+        try {
+            for (int i = pendingPersonIndex; i < persons.size() && decodedPersons == decoded;
+                    i = Math.max(i + 1, pendingPersonIndex)) {
+                decoded.set(i, persons.get(i));
+            }
+        } catch (UncheckedIOException e) {
+            logger.fine("Stopped decoding persons ahead: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<String> getLoadFailure() {
+        return Optional.ofNullable(loadFailure);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -110,6 +233,19 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+
+        // Comparing the two versions finds the change without looking at any other person.
+        Tier previousTier = target.getMembershipPoints().getTier();
+        Tier newTier = editedPerson.getMembershipPoints().getTier();
+        if (previousTier != newTier) {
+            tierChangeBus.publish(new TierChange(editedPerson.getName(), previousTier, newTier));
+        }
+    }
+
+    @Override
+    public TierChangeBus.Subscription subscribeToTierChanges(Consumer<TierChange> subscriber) {
+        requireNonNull(subscriber);
+        return tierChangeBus.subscribe(subscriber);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -123,6 +259,53 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public List<Person> findFilteredPersonsByName(String namePart) {
+        requireNonNull(namePart);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        List<Person> matches = addressBook.findPersonsByNameContaining(namePart);
+        if (predicate != null) {
+            matches.removeIf(person -> !predicate.test(person));
+        }
+        return matches;
+    }
+
+    @Override
+    public List<Person> findPersonsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonsByPhone(phone);
+    }
+
+    @Override
+    public List<Person> findPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.findPersonsByEmail(email);
+    }
+
+    @Override
+    public int countPersonsInTier(Tier tier) {
+        requireNonNull(tier);
+        return addressBook.countPersonsInTier(tier);
+    }
+
+    @Override
+    public Set<Name> findPersonNamesWithAllergens(AllergenExpression expression) {
+        requireNonNull(expression);
+        return addressBook.findPersonNamesWithAllergens(expression);
+    }
+
+    @Override
+    public Predicate<Person> personNameHasAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        return addressBook.personNameHasAnyWord(words);
+    }
+
+    @Override
+    public List<Name> findSimilarPersonNames(String text, int limit) {
+        requireNonNull(text);
+        return addressBook.findSimilarPersonNames(text, limit);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
@@ -156,6 +339,12 @@ public class ModelManager implements Model {
         return addressBook.removeItem(name);
     }
 
+    private static AddressBook withItemsOf(ReadOnlyAddressBook source) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setItems(source.getItemList());
+        return addressBook;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
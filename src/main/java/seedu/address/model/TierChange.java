@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Tier;
+
+/**
+ * Records that the membership of a person moved from one tier to another.
+ * Guarantees: immutable; the two tiers differ.
+ */
+public class TierChange {
+
+    public static final String MESSAGE_UPGRADE = "%1$s has been upgraded from %2$s to %3$s.";
+    public static final String MESSAGE_DOWNGRADE = "%1$s has been downgraded from %2$s to %3$s.";
+
+    private final Name name;
+    private final Tier previousTier;
+    private final Tier newTier;
+
+    /**
+     * Every field must be present and not null, and {@code previousTier} must differ from {@code newTier}.
+     */
+    public TierChange(Name name, Tier previousTier, Tier newTier) {
+        requireAllNonNull(name, previousTier, newTier);
+        assert previousTier != newTier;
+        this.name = name;
+        this.previousTier = previousTier;
+        this.newTier = newTier;
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public Tier getPreviousTier() {
+        return previousTier;
+    }
+
+    public Tier getNewTier() {
+        return newTier;
+    }
+
+    /**
+     * Returns true if the person moved to a higher tier. Tiers are declared from highest to lowest.
+     */
+    public boolean isUpgrade() {
+        return newTier.compareTo(previousTier) < 0;
+    }
+
+    /**
+     * Returns a message describing this change to the user.
+     */
+    public String getDescription() {
+        return String.format(isUpgrade() ? MESSAGE_UPGRADE : MESSAGE_DOWNGRADE, name, previousTier, newTier);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TierChange)) {
+            return false;
+        }
+
+        TierChange otherChange = (TierChange) other;
+        return name.equals(otherChange.name)
+                && previousTier == otherChange.previousTier
+                && newTier == otherChange.newTier;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, previousTier, newTier);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("previousTier", previousTier)
+                .add("newTier", newTier)
+                .toString();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Passes {@code TierChange}s from the model to any number of subscribers.
+ * Each subscriber has its own bounded queue, emptied by its own background thread, so publishing never waits for a
+ * subscriber. If a subscriber falls so far behind that its queue is full, further changes are dropped for it alone
+ * and counted, rather than holding up the command that made them.
+ */
+public class TierChangeBus {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(TierChangeBus.class);
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes {@code subscriber} to every change published from now on, with a queue of the default capacity.
+     */
+    public Subscription subscribe(Consumer<TierChange> subscriber) {
+        return subscribe(subscriber, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Subscribes {@code subscriber} to every change published from now on. Up to {@code queueCapacity} changes
+     * wait to be delivered to it. Changes are delivered in the order they are published, on a background thread.
+     */
+    public Subscription subscribe(Consumer<TierChange> subscriber, int queueCapacity) {
+        requireNonNull(subscriber);
+        checkArgument(queueCapacity > 0, "Queue capacity must be positive.");
+        Subscription subscription = new Subscription(subscriber, queueCapacity);
+        subscriptions.add(subscription);
+        subscription.deliverer.start();
+        return subscription;
+    }
+
+    /**
+     * Queues {@code change} for every subscriber, without waiting for any of them.
+     */
+    public void publish(TierChange change) {
+        requireNonNull(change);
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    /**
+     * A subscriber's place on the bus. Closing it stops the subscriber receiving changes.
+     */
+    public class Subscription implements AutoCloseable {
+        private final Consumer<TierChange> subscriber;
+        private final BlockingQueue<TierChange> queue;
+        private final AtomicLong droppedCount = new AtomicLong();
+        private final Thread deliverer;
+
+        private Subscription(Consumer<TierChange> subscriber, int queueCapacity) {
+            this.subscriber = subscriber;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.deliverer = new Thread(this::deliver, "tier-change-subscriber");
+            deliverer.setDaemon(true);
+        }
+
+        /**
+         * Returns the number of changes not delivered to this subscriber because its queue was full.
+         */
+        public long getDroppedCount() {
+            return droppedCount.get();
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+            deliverer.interrupt();
+        }
+
+        private void offer(TierChange change) {
+            if (!queue.offer(change)) {
+                droppedCount.incrementAndGet();
+                logger.fine("Dropped tier change for a subscriber that is falling behind: " + change);
+            }
+        }
+
+        private void deliver() {
+            while (true) {
+                TierChange change;
+                try {
+                    change = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    subscriber.accept(change);
+                } catch (RuntimeException e) {
+                    logger.warning("Tier change subscriber failed: " + StringUtil.getDetails(e));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.model.allergen;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * A condition on the allergens of a member, built from single allergens combined with and, or and not.
+ * It is evaluated against an {@code AllergenIndex} with bitmap operations, so that the members matching it are
+ * found without checking each member in turn.
+ */
+public abstract class AllergenExpression {
+
+    /**
+     * Returns an expression that holds for the members with {@code allergen}.
+     */
+    public static AllergenExpression of(Allergen allergen) {
+        requireNonNull(allergen);
+        return new Single(allergen);
+    }
+
+    /**
+     * Returns an expression that holds for the members that both this and {@code other} hold for.
+     */
+    public AllergenExpression and(AllergenExpression other) {
+        requireNonNull(other);
+        return new Both(this, other);
+    }
+
+    /**
+     * Returns an expression that holds for the members that this or {@code other} holds for.
+     */
+    public AllergenExpression or(AllergenExpression other) {
+        requireNonNull(other);
+        return new Either(this, other);
+    }
+
+    /**
+     * Returns an expression that holds for the members that this does not hold for.
+     */
+    public AllergenExpression negate() {
+        return new Not(this);
+    }
+
+    /**
+     * Returns the ids of the members in {@code index} that this expression holds for.
+     * The returned set belongs to the caller.
+     */
+    abstract BitSet evaluate(AllergenIndex index);
+
+    private static class Single extends AllergenExpression {
+        private final Allergen allergen;
+
+        Single(Allergen allergen) {
+            this.allergen = allergen;
+        }
+
+        @Override
+        BitSet evaluate(AllergenIndex index) {
+            return index.getMembersWith(allergen);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Single && allergen.equals(((Single) other).allergen));
+        }
+
+        @Override
+        public int hashCode() {
+            return allergen.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return allergen.allergenName;
+        }
+    }
+
+    private static class Both extends AllergenExpression {
+        private final AllergenExpression first;
+        private final AllergenExpression second;
+
+        Both(AllergenExpression first, AllergenExpression second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        BitSet evaluate(AllergenIndex index) {
+            BitSet members = first.evaluate(index);
+            members.and(second.evaluate(index));
+            return members;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Both)) {
+                return false;
+            }
+            Both otherBoth = (Both) other;
+            return first.equals(otherBoth.first) && second.equals(otherBoth.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("and", first, second);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + first + " and " + second + ")";
+        }
+    }
+
+    private static class Either extends AllergenExpression {
+        private final AllergenExpression first;
+        private final AllergenExpression second;
+
+        Either(AllergenExpression first, AllergenExpression second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        BitSet evaluate(AllergenIndex index) {
+            BitSet members = first.evaluate(index);
+            members.or(second.evaluate(index));
+            return members;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Either)) {
+                return false;
+            }
+            Either otherEither = (Either) other;
+            return first.equals(otherEither.first) && second.equals(otherEither.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("or", first, second);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + first + " or " + second + ")";
+        }
+    }
+
+    private static class Not extends AllergenExpression {
+        private final AllergenExpression negated;
+
+        Not(AllergenExpression negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        BitSet evaluate(AllergenIndex index) {
+            BitSet members = index.getAllMembers();
+            members.andNot(negated.evaluate(index));
+            return members;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Not && negated.equals(((Not) other).negated));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("not", negated);
+        }
+
+        @Override
+        public String toString() {
+            return "not " + negated;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.allergen;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+
+/**
+ * An index of the allergens of members, ignoring case, that finds the members matching an
+ * {@code AllergenExpression}. Each member is given a small number, and each allergen a bitmap with a bit set
+ * for every member that has it. Allergen names are kept in a dictionary, so each distinct allergen has one bitmap
+ * however many members have it. Numbers of removed members are reused, which keeps the bitmaps dense.
+ */
+public class AllergenIndex {
+
+    private final Map<Name, Integer> memberIds = new HashMap<>();
+    private final List<Name> namesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final BitSet members = new BitSet();
+    private final Map<String, Integer> allergenIds = new HashMap<>();
+    private final List<BitSet> membersByAllergen = new ArrayList<>();
+
+    /**
+     * Adds the member with {@code name} and {@code allergens} to the index.
+     * Does nothing if the member is already indexed.
+     */
+    public void add(Name name, Set<Allergen> allergens) {
+        requireAllNonNull(name, allergens);
+        if (memberIds.containsKey(name)) {
+            return;
+        }
+
+        int id = freeIds.isEmpty() ? namesById.size() : freeIds.pop();
+        if (id == namesById.size()) {
+            namesById.add(name);
+        } else {
+            namesById.set(id, name);
+        }
+        memberIds.put(name, id);
+        members.set(id);
+        for (Allergen allergen : allergens) {
+            membersByAllergen.get(getAllergenId(allergen)).set(id);
+        }
+    }
+
+    /**
+     * Removes the member with {@code name} from the index. Does nothing if the member is not indexed.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        Integer id = memberIds.remove(name);
+        if (id == null) {
+            return;
+        }
+
+        // There are few distinct allergens, so clearing the member from each bitmap is cheap.
+        members.clear(id);
+        for (BitSet allergenMembers : membersByAllergen) {
+            allergenMembers.clear(id);
+        }
+        namesById.set(id, null);
+        freeIds.push(id);
+    }
+
+    /**
+     * Removes every member from the index.
+     */
+    public void clear() {
+        memberIds.clear();
+        namesById.clear();
+        freeIds.clear();
+        members.clear();
+        allergenIds.clear();
+        membersByAllergen.clear();
+    }
+
+    /**
+     * Returns the names of the members that {@code expression} holds for.
+     */
+    public Set<Name> findNames(AllergenExpression expression) {
+        requireNonNull(expression);
+        BitSet matchingIds = expression.evaluate(this);
+        Set<Name> names = new HashSet<>();
+        for (int id = matchingIds.nextSetBit(0); id >= 0; id = matchingIds.nextSetBit(id + 1)) {
+            names.add(namesById.get(id));
+        }
+        return names;
+    }
+
+    /**
+     * Returns a copy of the bitmap of the members with {@code allergen}.
+     */
+    BitSet getMembersWith(Allergen allergen) {
+        Integer allergenId = allergenIds.get(normalize(allergen));
+        return allergenId == null ? new BitSet() : (BitSet) membersByAllergen.get(allergenId).clone();
+    }
+
+    /**
+     * Returns a copy of the bitmap of all indexed members.
+     */
+    BitSet getAllMembers() {
+        return (BitSet) members.clone();
+    }
+
+    private int getAllergenId(Allergen allergen) {
+        return allergenIds.computeIfAbsent(normalize(allergen), unused -> {
+            membersByAllergen.add(new BitSet());
+            return membersByAllergen.size() - 1;
+        });
+    }
+
+    private static String normalize(Allergen allergen) {
+        return allergen.allergenName.toLowerCase(Locale.ROOT);
+    }
+}
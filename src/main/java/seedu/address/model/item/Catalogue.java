@@ -2,8 +2,14 @@ package seedu.address.model.item;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -11,9 +17,8 @@ import seedu.address.model.item.exceptions.DuplicateItemException;
 
 /**
  * A list of items that enforces uniqueness between its elements and does not allow nulls.
- * A item is considered unique by comparing using {@code Item#isSameItem(Item)}. As such, adding and updating of
- * items uses Item#isSameItem(Item) for equality to ensure that the item being added or updated is
- * unique in terms of identity in the Catalogue.
+ * A item is considered unique by comparing using {@code Item#isSameItem(Item)}, which ignores the case of
+ * item names. Items are indexed by their lower-cased name, so that lookups by name do not need to scan the list.
  *
  * Supports a minimal set of list operations.
  *
@@ -22,21 +27,25 @@ import seedu.address.model.item.exceptions.DuplicateItemException;
 public class Catalogue implements Iterable<Item> {
 
     private final ObservableList<Item> internalList = FXCollections.observableArrayList();
+    private final Map<String, Item> itemsByKey = new HashMap<>();
     private final ObservableList<Item> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Bumped on every change, so that callers can tell whether the catalogue changed since they last looked.
+    private long modificationCount;
+
     public Catalogue() {}
 
     /**
      * Returns false if the list contains an item with the same name.
      */
     public boolean addItem(Item newItem) {
-        for (Item item: internalList) {
-            if (item.isSameItem(newItem)) {
-                return false;
-            }
+        requireNonNull(newItem);
+        if (itemsByKey.putIfAbsent(getKey(newItem.getName()), newItem) != null) {
+            return false;
         }
         internalList.add(newItem);
+        modificationCount++;
         return true;
     }
 
@@ -44,28 +53,17 @@ public class Catalogue implements Iterable<Item> {
      * Returns if this catalogue contains an item matching the name of the given string
      */
     public boolean hasItem(String name) {
-        for (Item item: internalList) {
-            String itemName = item.getName().toLowerCase();
-            if (itemName.equals(name.toLowerCase())) {
-                return true;
-            }
-        }
-        return false;
+        requireNonNull(name);
+        return itemsByKey.containsKey(getKey(name));
     }
 
     /**
-     * Returns a clone of the item in this catalogue that has a name matching the given String
+     * Returns the item in this catalogue that has a name matching the given String, or {@code null} if there is none.
+     * Items are immutable, so the item itself is returned rather than a copy.
      */
     public Item findItem(String name) {
         requireNonNull(name);
-        name = name.toLowerCase();
-        for (Item item: internalList) {
-            String itemName = item.getName();
-            if (itemName.equalsIgnoreCase(name)) {
-                return item.clone();
-            }
-        }
-        return null;
+        return itemsByKey.get(getKey(name));
     }
 
     /**
@@ -74,25 +72,50 @@ public class Catalogue implements Iterable<Item> {
      * @return {@code Item} removed from the catalogue, or {@code null} if no items were removed
      */
     public Item removeItem(String name) {
-        for (Item item: internalList) {
-            if (item.getName().equalsIgnoreCase(name)) {
-                internalList.remove(item);
-                return item;
-            }
+        requireNonNull(name);
+        Item item = itemsByKey.remove(getKey(name));
+        if (item == null) {
+            return null;
         }
-        return null;
+        internalList.remove(item);
+        modificationCount++;
+        return item;
     }
 
+    /**
+     * Replaces the contents of this catalogue with {@code items}.
+     *
+     * @throws DuplicateItemException naming the duplicated items, if {@code items} contains any.
+     */
     public void setItems(List<Item> items) {
-        if (!itemsAreUnique(items)) {
-            throw new DuplicateItemException();
+        requireNonNull(items);
+        Map<String, Item> newItemsByKey = new HashMap<>();
+        List<String> duplicateNames = findDuplicateNames(items, newItemsByKey);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateItemException(duplicateNames);
         }
         internalList.setAll(items);
+        itemsByKey.clear();
+        itemsByKey.putAll(newItemsByKey);
+        modificationCount++;
     }
 
+    /**
+     * Replaces the contents of this catalogue with the contents of {@code replacement}.
+     */
     public void setItems(Catalogue replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        itemsByKey.clear();
+        itemsByKey.putAll(replacement.itemsByKey);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to this catalogue so far.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     @Override
@@ -114,14 +137,28 @@ public class Catalogue implements Iterable<Item> {
      * Returns true if the list contains only unique items.
      */
     public boolean itemsAreUnique(List<Item> items) {
-        for (int i = 0; i < items.size(); i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).getName().equals(items.get(j).getName())) {
-                    return false;
-                }
+        return findDuplicateNames(items, new HashMap<>()).isEmpty();
+    }
+
+    /**
+     * Adds {@code items} to {@code index} by name, and returns the names of the items that could not be added
+     * because an item with the same name came before them, in order of first repetition.
+     */
+    private static List<String> findDuplicateNames(List<Item> items, Map<String, Item> index) {
+        Set<String> duplicateNames = new LinkedHashSet<>();
+        for (Item item : items) {
+            if (index.putIfAbsent(getKey(item.getName()), item) != null) {
+                duplicateNames.add(item.getName());
             }
         }
-        return true;
+        return new ArrayList<>(duplicateNames);
+    }
+
+    /**
+     * Returns the key under which an item named {@code name} is indexed. Item names are compared ignoring case.
+     */
+    private static String getKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -9,8 +9,8 @@ public class Item implements Cloneable {
             "Item names should contain alphabets and spaces, and cannot be blank.";
     public static final String ITEM_NAME_VALIDATION_REGEX = "^[a-zA-Z][a-zA-Z\\s]*$";
 
-    private String name;
-    private int points;
+    private final String name;
+    private final int points;
 
     /**
      * Creates a new item with the given name and points.
@@ -32,9 +32,13 @@ public class Item implements Cloneable {
         return new Item(name, points);
     }
 
+    /**
+     * Returns true if both items have the same name, ignoring case.
+     */
     public boolean isSameItem(Item otherItem) {
-        return otherItem != null && otherItem.getName().equals(name);
+        return otherItem != null && otherItem.getName().equalsIgnoreCase(name);
     }
+
     @Override
     public String toString() {
         return name + " (" + points + " points)";
@@ -57,8 +61,6 @@ public class Item implements Cloneable {
 
     @Override
     public int hashCode() {
-        //combine both names and points, then hash
-        String hashString = String.format("%s%d", name, points);
-        return hashString.hashCode();
+        return 31 * name.hashCode() + points;
     }
 }
@@ -0,0 +1,41 @@
+package seedu.address.model.item;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A table of canonical {@code Item} instances, one for each distinct name and points value.
+ * Orders keep the points an item was worth when it was ordered, so items with the same name but different points
+ * are kept apart. Items are immutable, so orders of the same item at the same points can all share one instance
+ * instead of each holding its own copy.
+ * The table only holds its items weakly, so an item is dropped from it once no order refers to it any more.
+ */
+public class ItemTable {
+
+    private static final Map<Item, WeakReference<Item>> items = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical item named {@code name} worth {@code points}, adding it to the table if it is new.
+     */
+    public static Item intern(String name, int points) {
+        requireNonNull(name);
+        return intern(new Item(name, points));
+    }
+
+    /**
+     * Returns the canonical item equal to {@code item}, adding {@code item} to the table if it is new.
+     */
+    public static synchronized Item intern(Item item) {
+        requireNonNull(item);
+        WeakReference<Item> reference = items.get(item);
+        Item canonicalItem = reference == null ? null : reference.get();
+        if (canonicalItem == null) {
+            items.put(item, new WeakReference<>(item));
+            return item;
+        }
+        return canonicalItem;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.item.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Items (Items are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,11 @@ public class DuplicateItemException extends RuntimeException {
     public DuplicateItemException() {
         super("Operation would result in duplicate items");
     }
+
+    /**
+     * Creates an exception naming the items that would be duplicated.
+     */
+    public DuplicateItemException(Collection<String> duplicateNames) {
+        super("Operation would result in duplicate items: " + String.join(", ", duplicateNames));
+    }
 }
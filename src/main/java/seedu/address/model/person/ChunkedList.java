@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+/**
+ * An immutable list whose elements are stored in chunks of up to 32, each chunk holding one column of primitives
+ * per field of its elements. Full chunks never change and are held in a {@link PersistentList}, so appending returns
+ * a new list sharing all full chunks with this one. An element is only created when it is read.
+ * Modifying it through the {@code List} interface throws {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of the elements.
+ * @param <C> the type of the chunks the elements are stored in.
+ */
+abstract class ChunkedList<E, C extends ChunkedList.Chunk<E, C>> extends AbstractList<E> implements RandomAccess {
+
+    static final int CHUNK_SIZE = 32;
+
+    private final PersistentList<C> fullChunks;
+    private final C tail;
+
+    ChunkedList(PersistentList<C> fullChunks, C tail) {
+        this.fullChunks = fullChunks;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the list created by {@code factory} from the chunks holding the elements of {@code elements},
+     * in iteration order.
+     */
+    static <E, C extends Chunk<E, C>, L> L copyOf(Collection<? extends E> elements, C emptyChunk,
+            BiFunction<PersistentList<C>, C, L> factory) {
+        List<C> fullChunks = new ArrayList<>(elements.size() / CHUNK_SIZE);
+        C chunk = emptyChunk.copyOf(CHUNK_SIZE);
+        int chunkSize = 0;
+        for (E element : elements) {
+            chunk.set(chunkSize++, element);
+            if (chunkSize == CHUNK_SIZE) {
+                fullChunks.add(chunk);
+                chunk = emptyChunk.copyOf(CHUNK_SIZE);
+                chunkSize = 0;
+            }
+        }
+        return factory.apply(PersistentList.copyOf(fullChunks), chunk.copyOf(chunkSize));
+    }
+
+    /**
+     * Returns the list created by {@code factory} from the chunks holding the elements of this list followed by
+     * {@code element}. This list is unchanged.
+     */
+    <L> L append(E element, BiFunction<PersistentList<C>, C, L> factory) {
+        requireNonNull(element);
+        int tailSize = tail.size();
+        C newTail = tail.copyOf(tailSize + 1);
+        newTail.set(tailSize, element);
+        if (tailSize + 1 == CHUNK_SIZE) {
+            return factory.apply(fullChunks.append(newTail), tail.empty());
+        }
+        return factory.apply(fullChunks, newTail);
+    }
+
+    /**
+     * Returns true if this list begins with all the elements of {@code other}, in the same order.
+     * Chunks shared with {@code other}, as after appending to it, are not compared element by element.
+     */
+    boolean startsWith(ChunkedList<E, C> other) {
+        requireNonNull(other);
+        int otherFullChunks = other.fullChunks.size();
+        if (other.size() > size()) {
+            return false;
+        }
+        for (int i = 0; i < otherFullChunks; i++) {
+            C chunk = fullChunks.get(i);
+            C otherChunk = other.fullChunks.get(i);
+            if (chunk != otherChunk && !chunk.startsWith(otherChunk, CHUNK_SIZE)) {
+                return false;
+            }
+        }
+        C chunk = otherFullChunks < fullChunks.size() ? fullChunks.get(otherFullChunks) : tail;
+        return chunk.startsWith(other.tail, other.tail.size());
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int chunkIndex = index / CHUNK_SIZE;
+        C chunk = chunkIndex < fullChunks.size() ? fullChunks.get(chunkIndex) : tail;
+        return chunk.get(index % CHUNK_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return fullChunks.size() * CHUNK_SIZE + tail.size();
+    }
+
+    /**
+     * Up to {@code CHUNK_SIZE} consecutive elements, one column per field.
+     * A chunk is only written to while it is being built, before it is shared.
+     */
+    interface Chunk<E, C extends Chunk<E, C>> {
+
+        int size();
+
+        /**
+         * Returns a chunk with no elements.
+         */
+        C empty();
+
+        /**
+         * Returns a copy of the first {@code size} elements of this chunk, padded if {@code size} is larger.
+         */
+        C copyOf(int size);
+
+        /**
+         * Returns true if the first {@code count} elements of this chunk are those of {@code other}.
+         */
+        boolean startsWith(C other, int count);
+
+        void set(int index, E element);
+
+        E get(int index);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents one change to the points and membership points of a person, as recorded in their {@code PointsLedger}.
+ * Guarantees: immutable; the time is rounded down to the second.
+ */
+public class LedgerEntry {
+
+    /**
+     * The kinds of change that are recorded.
+     */
+    public enum Kind {
+        ORDER("Order"),
+        MANUAL_ADD("Added"),
+        REDEEM("Redeemed"),
+        EDIT("Edited");
+
+        private final String description;
+
+        Kind(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Kind kind;
+    private final long pointsChange;
+    private final long membershipPointsChange;
+    private final LocalDateTime time;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public LedgerEntry(Kind kind, long pointsChange, long membershipPointsChange, LocalDateTime time) {
+        requireAllNonNull(kind, time);
+        this.kind = kind;
+        this.pointsChange = pointsChange;
+        this.membershipPointsChange = membershipPointsChange;
+        this.time = time.withNano(0);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getPointsChange() {
+        return pointsChange;
+    }
+
+    public long getMembershipPointsChange() {
+        return membershipPointsChange;
+    }
+
+    public LocalDateTime getTime() {
+        return time;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LedgerEntry)) {
+            return false;
+        }
+
+        LedgerEntry otherEntry = (LedgerEntry) other;
+        return kind == otherEntry.kind
+                && pointsChange == otherEntry.pointsChange
+                && membershipPointsChange == otherEntry.membershipPointsChange
+                && time.equals(otherEntry.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, pointsChange, membershipPointsChange, time);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind.name())
+                .add("pointsChange", pointsChange)
+                .add("membershipPointsChange", membershipPointsChange)
+                .add("time", time)
+                .toString();
+    }
+}
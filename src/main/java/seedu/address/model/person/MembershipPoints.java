@@ -3,38 +3,33 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.MathUtil;
+
 /**
  * Represents a Person's membership tier and points in the address book.
  * Guarantees: immutable;
  */
 public class MembershipPoints {
 
-    /**
-     * Represents the tiers and the minimum points required to reach them, from highest to lowest.
-     */
-    public static final String[][] TIERS = {
-            {"PLATINUM", "10000"},
-            {"GOLD", "5000"},
-            {"SILVER", "2000"},
-            {"BRONZE", "0"},
-    };
-
     /**
      * The total amount of points accumulated by a member.
      */
-    public final int value;
+    public final long value;
+
+    // Worked out once, as the value never changes and the tier is shown wherever the points are
+    private final Tier tier;
 
     public MembershipPoints() {
-        this.value = 0;
+        this(0);
     }
 
     /**
      * Creates a MembershipPoints object with the specified points.
      * @param newPoints The points to be set.
      */
-    public MembershipPoints(int newPoints) {
-        requireNonNull(newPoints);
+    public MembershipPoints(long newPoints) {
         this.value = newPoints;
+        this.tier = Tier.of(newPoints);
     }
 
     /**
@@ -43,45 +38,40 @@ public class MembershipPoints {
      */
     public MembershipPoints(String points) {
         requireNonNull(points);
-        checkArgument(isValidMembershipPoints(Integer.parseInt(points)), "Points should be a non-negative integer.");
-        this.value = Integer.parseInt(points);
+        this.value = Long.parseLong(points);
+        checkArgument(isValidMembershipPoints(value), "Points should be a non-negative integer.");
+        this.tier = Tier.of(value);
     }
 
     /**
-     * Calculates the tier of the membership based on {@code expPoints}.
+     * Returns the tier of the membership reached with these points.
      * @return The tier of the member.
      */
-    public String getTier() {
-        for (int i = 0; i < TIERS.length - 1; i++) {
-            if (value >= Integer.parseInt(TIERS[i][1])) {
-                return TIERS[i][0];
-            }
-        }
-        return TIERS[TIERS.length - 1][0];
+    public Tier getTier() {
+        return tier;
     }
 
     /**
      * Adds points to the current points.
+     * A total too large for a {@code long} is capped at {@code Long.MAX_VALUE} instead of overflowing.
      * @param pointsToBeAdded
      * @return The new MembershipPoints object with the added points.
      */
-    public MembershipPoints addPoints(int pointsToBeAdded) {
-        MembershipPoints newMembershipPoints = new MembershipPoints(this.value + pointsToBeAdded);
-        return newMembershipPoints;
+    public MembershipPoints addPoints(long pointsToBeAdded) {
+        return new MembershipPoints(MathUtil.saturatedAdd(value, pointsToBeAdded));
     }
 
     /**
      * Checks if the points {@code test} are valid.
      * @param test The points to be tested.
      */
-    public static boolean isValidMembershipPoints(int test) {
-        requireNonNull(test);
+    public static boolean isValidMembershipPoints(long test) {
         return test >= 0;
     }
 
     @Override
     public String toString() {
-        return String.format("%s (%d pts)", getTier(), value);
+        return tier + " (" + value + " pts)";
     }
 
     @Override
@@ -100,7 +90,6 @@ public class MembershipPoints {
 
     @Override
     public int hashCode() {
-        Integer expPoints = this.value;
-        return expPoints.hashCode();
+        return Long.hashCode(value);
     }
 }
@@ -0,0 +1,398 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of person names that finds the names containing a given piece of text or word, ignoring case.
+ * Each name is split into its overlapping three-character pieces (trigrams), and the index maps each trigram
+ * to the names containing it. A search only checks the names that contain every trigram of the search text,
+ * instead of every name. The index also maps each whole word of a name to the names containing that word.
+ *
+ * For searches that tolerate typos, each word is also split into trigrams after padding it with a space on
+ * each side, so that a word of four or more letters shares a trigram with any misspelling one typo away.
+ * A typo in the middle of a shorter word changes all of its trigrams (" bob " and " bib " share none), so words of
+ * up to {@value #SHORT_WORD_LENGTH} letters are split into padded bigrams as well. Only the names that share
+ * the most of these trigrams with the search text are compared with it letter by letter. Names are numbered
+ * for these trigrams, so that counting the trigrams each name shares with the search text needs only an array.
+ */
+public class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int SHORT_WORD_GRAM_LENGTH = 2;
+    private static final int SHORT_WORD_LENGTH = 4;
+    private static final int MAX_SIMILAR_CANDIDATES = 200;
+
+    private final Map<Name, String> normalizedNames = new HashMap<>();
+    private final Map<String, Set<Name>> namesByGram = new HashMap<>();
+    private final Map<String, Set<Name>> namesByWord = new HashMap<>();
+    private final Map<Name, Integer> nameIds = new HashMap<>();
+    private final List<Name> namesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<String, IdList> idsByWordGram = new HashMap<>();
+
+    /**
+     * Adds {@code name} to the index. Does nothing if it is already indexed.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        String normalizedName = normalize(name.fullName);
+        if (normalizedNames.putIfAbsent(name, normalizedName) != null) {
+            return;
+        }
+        for (String gram : getGrams(normalizedName)) {
+            namesByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(name);
+        }
+        for (String word : getWords(normalizedName)) {
+            namesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(name);
+        }
+
+        int id = allocateId(name);
+        for (String gram : getWordGrams(normalizedName)) {
+            idsByWordGram.computeIfAbsent(gram, unused -> new IdList()).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index. Does nothing if it is not indexed.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        String normalizedName = normalizedNames.remove(name);
+        if (normalizedName == null) {
+            return;
+        }
+        removeFromPostings(namesByGram, getGrams(normalizedName), name);
+        removeFromPostings(namesByWord, getWords(normalizedName), name);
+
+        int id = nameIds.remove(name);
+        for (String gram : getWordGrams(normalizedName)) {
+            IdList ids = idsByWordGram.get(gram);
+            ids.remove(id);
+            if (ids.size() == 0) {
+                idsByWordGram.remove(gram);
+            }
+        }
+        namesById.set(id, null);
+        freeIds.push(id);
+    }
+
+    /**
+     * Removes all names from the index.
+     */
+    public void clear() {
+        normalizedNames.clear();
+        namesByGram.clear();
+        namesByWord.clear();
+        nameIds.clear();
+        namesById.clear();
+        freeIds.clear();
+        idsByWordGram.clear();
+    }
+
+    /**
+     * Returns a test of whether a name is indexed and has any of {@code words} as a whole word, ignoring case.
+     * The name is looked up in the index each time it is tested, so the test follows later changes to the index.
+     */
+    public Predicate<Name> hasAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        List<String> normalizedWords = new ArrayList<>();
+        words.forEach(word -> normalizedWords.add(normalize(word.trim())));
+        return name -> {
+            for (String word : normalizedWords) {
+                Set<Name> names = namesByWord.get(word);
+                if (names != null && names.contains(name)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns up to {@code limit} indexed names that are similar to {@code text}, ignoring case, closest first.
+     * A name is similar if every word of {@code text} is at most a few typos away from some word of the name,
+     * where longer words allow more typos. Names needing fewer typos in total come first.
+     */
+    public List<Name> findSimilarNames(String text, int limit) {
+        requireNonNull(text);
+        String normalizedText = normalize(text);
+        Set<String> words = getWords(normalizedText);
+        if (words.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> grams = getWordGrams(normalizedText);
+        int[] sharedGramCounts = new int[namesById.size()];
+        IdList sharingIds = new IdList();
+        for (String gram : grams) {
+            IdList ids = idsByWordGram.getOrDefault(gram, IdList.EMPTY);
+            for (int i = 0; i < ids.size(); i++) {
+                int id = ids.get(i);
+                if (sharedGramCounts[id]++ == 0) {
+                    sharingIds.add(id);
+                }
+            }
+        }
+
+        List<SimilarName> similarNames = new ArrayList<>();
+        IdList candidateIds = getMostSharedGrams(sharingIds, sharedGramCounts, grams.size());
+        for (int i = 0; i < candidateIds.size(); i++) {
+            int id = candidateIds.get(i);
+            Name name = namesById.get(id);
+            int typos = countTypos(words, getWords(normalizedNames.get(name)));
+            if (typos >= 0) {
+                similarNames.add(new SimilarName(name, typos, sharedGramCounts[id]));
+            }
+        }
+        similarNames.sort(SimilarName.CLOSEST_FIRST);
+
+        List<Name> result = new ArrayList<>();
+        for (int i = 0; i < similarNames.size() && i < limit; i++) {
+            result.add(similarNames.get(i).name);
+        }
+        return result;
+    }
+
+    private int allocateId(Name name) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = namesById.size();
+            namesById.add(name);
+        } else {
+            id = freeIds.pop();
+            namesById.set(id, name);
+        }
+        nameIds.put(name, id);
+        return id;
+    }
+
+    /**
+     * Returns up to {@code MAX_SIMILAR_CANDIDATES} of {@code ids}, preferring those with the highest
+     * {@code sharedGramCounts}, which are at most {@code maxCount}. Uses a count of names per shared gram count
+     * rather than sorting, since there can be many ids but only a few different counts.
+     */
+    private static IdList getMostSharedGrams(IdList ids, int[] sharedGramCounts, int maxCount) {
+        int[] idsWithCount = new int[maxCount + 1];
+        for (int i = 0; i < ids.size(); i++) {
+            idsWithCount[sharedGramCounts[ids.get(i)]]++;
+        }
+
+        // Lower the threshold until enough ids reach it; only part of the ids exactly at the threshold may fit.
+        int threshold = maxCount;
+        int idsAboveThreshold = 0;
+        while (threshold > 1 && idsAboveThreshold + idsWithCount[threshold] < MAX_SIMILAR_CANDIDATES) {
+            idsAboveThreshold += idsWithCount[threshold];
+            threshold--;
+        }
+        int roomAtThreshold = MAX_SIMILAR_CANDIDATES - idsAboveThreshold;
+
+        IdList candidates = new IdList();
+        for (int i = 0; i < ids.size(); i++) {
+            int count = sharedGramCounts[ids.get(i)];
+            if (count > threshold || (count == threshold && roomAtThreshold-- > 0)) {
+                candidates.add(ids.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the total number of typos needed to match each of {@code searchWords} to one of {@code nameWords},
+     * or -1 if some search word is too far from every name word.
+     */
+    private static int countTypos(Set<String> searchWords, Set<String> nameWords) {
+        int totalTypos = 0;
+        for (String searchWord : searchWords) {
+            int maxTypos = getMaxTypos(searchWord);
+            int fewestTypos = maxTypos + 1;
+            for (String nameWord : nameWords) {
+                fewestTypos = Math.min(fewestTypos, StringUtil.getEditDistance(searchWord, nameWord, maxTypos));
+            }
+            if (fewestTypos > maxTypos) {
+                return -1;
+            }
+            totalTypos += fewestTypos;
+        }
+        return totalTypos;
+    }
+
+    private static int getMaxTypos(String word) {
+        if (word.length() <= 4) {
+            return 1;
+        }
+        return word.length() <= 8 ? 2 : 3;
+    }
+
+    /**
+     * Returns the indexed names that contain {@code text}, ignoring case, in no particular order.
+     */
+    public List<Name> findNamesContaining(String text) {
+        requireNonNull(text);
+        String normalizedText = normalize(text);
+        Set<String> grams = getGrams(normalizedText);
+
+        // Text shorter than a trigram has no grams to narrow the search with.
+        Set<Name> candidates = grams.isEmpty() ? normalizedNames.keySet() : getNamesWithAllGrams(grams);
+
+        List<Name> matches = new ArrayList<>();
+        for (Name candidate : candidates) {
+            if (normalizedNames.get(candidate).contains(normalizedText)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the names that contain all of {@code grams}, starting from the gram that the fewest names contain.
+     */
+    private Set<Name> getNamesWithAllGrams(Set<String> grams) {
+        List<Set<Name>> postings = new ArrayList<>();
+        for (String gram : grams) {
+            Set<Name> names = namesByGram.get(gram);
+            if (names == null) {
+                return Collections.emptySet();
+            }
+            postings.add(names);
+        }
+        postings.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+        Set<Name> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    private static void removeFromPostings(Map<String, Set<Name>> postings, Set<String> keys, Name name) {
+        for (String key : keys) {
+            Set<Name> names = postings.get(key);
+            names.remove(name);
+            if (names.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the whitespace-separated words of {@code normalizedText}.
+     */
+    private static Set<String> getWords(String normalizedText) {
+        Set<String> words = new HashSet<>();
+        int wordStart = -1;
+        for (int i = 0; i <= normalizedText.length(); i++) {
+            boolean isWordChar = i < normalizedText.length() && !Character.isWhitespace(normalizedText.charAt(i));
+            if (isWordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordChar && wordStart >= 0) {
+                words.add(normalizedText.substring(wordStart, i));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the trigrams of each word of {@code normalizedText}, with each word padded by a space on both sides,
+     * and the bigrams of each padded word of up to {@code SHORT_WORD_LENGTH} letters.
+     */
+    private static Set<String> getWordGrams(String normalizedText) {
+        Set<String> grams = new HashSet<>();
+        for (String word : getWords(normalizedText)) {
+            String paddedWord = " " + word + " ";
+            addGrams(grams, paddedWord, GRAM_LENGTH);
+            if (word.length() <= SHORT_WORD_LENGTH) {
+                addGrams(grams, paddedWord, SHORT_WORD_GRAM_LENGTH);
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> getGrams(String normalizedText) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, normalizedText, GRAM_LENGTH);
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String normalizedText, int gramLength) {
+        for (int i = 0; i + gramLength <= normalizedText.length(); i++) {
+            grams.add(normalizedText.substring(i, i + gramLength));
+        }
+    }
+
+    /**
+     * A name found by a typo-tolerant search, with how closely it matched.
+     */
+    private static class SimilarName {
+        static final Comparator<SimilarName> CLOSEST_FIRST = Comparator
+                .<SimilarName>comparingInt(match -> match.typos)
+                .thenComparingInt(match -> -match.sharedGrams)
+                .thenComparing(match -> match.name.fullName);
+
+        final Name name;
+        final int typos;
+        final int sharedGrams;
+
+        SimilarName(Name name, int typos, int sharedGrams) {
+            this.name = name;
+            this.typos = typos;
+            this.sharedGrams = sharedGrams;
+        }
+    }
+
+    /**
+     * A growable list of name ids, kept as plain ints so that walking a trigram's ids does not unbox them.
+     * The order of the ids is not kept when one is removed.
+     */
+    private static class IdList {
+        static final IdList EMPTY = new IdList();
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+
+        int get(int index) {
+            return ids[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemTable;
+import seedu.address.model.person.orders.Order;
+
+/**
+ * The orders of a member, stored in columns of primitives instead of as {@code Order} objects.
+ * Each order takes an item id, a quantity, the points the item was worth when ordered and the time of the order
+ * in seconds, about 20 bytes in all. Item names are kept once each in a dictionary shared by all histories.
+ * An {@code Order} is only created when an element is read, for display or saving.
+ *
+ * <p>The dictionary only grows, by one entry for each distinct item name ever ordered. Orders keep the name an
+ * item had when it was ordered, so names of deleted or renamed items are still needed by the orders made before.
+ * Looking up a name or the id of a known name takes no lock, so histories can be built on several threads at once.
+ *
+ * <p>Orders are kept in the chunks of a {@link ChunkedList}, so the history is immutable and appending returns
+ * a new history that shares all full chunks with this one.
+ */
+final class OrderHistory extends ChunkedList<Order, OrderHistory.Chunk> {
+
+    private static final OrderHistory EMPTY = new OrderHistory(PersistentList.empty(), Chunk.EMPTY);
+
+    private static final ConcurrentMap<String, Integer> itemIds = new ConcurrentHashMap<>();
+    // Indexed by item id. Only written under the class lock, to an index no id has been handed out for yet.
+    private static volatile String[] itemNames = new String[CHUNK_SIZE];
+
+    private OrderHistory(PersistentList<Chunk> fullChunks, Chunk tail) {
+        super(fullChunks, tail);
+    }
+
+    /**
+     * Returns a history of the orders in {@code orders}, in iteration order.
+     * If {@code orders} is already an {@code OrderHistory}, it is returned as is.
+     */
+    static OrderHistory copyOf(Collection<? extends Order> orders) {
+        requireNonNull(orders);
+        if (orders instanceof OrderHistory) {
+            return (OrderHistory) orders;
+        }
+        if (orders.isEmpty()) {
+            return EMPTY;
+        }
+        return copyOf(orders, Chunk.EMPTY, OrderHistory::new);
+    }
+
+    /**
+     * Returns a history of the orders in this history followed by {@code order}. This history is unchanged.
+     */
+    OrderHistory append(Order order) {
+        return append(order, OrderHistory::new);
+    }
+
+    private static int getItemId(String itemName) {
+        Integer itemId = itemIds.get(itemName);
+        return itemId != null ? itemId : addItemName(itemName);
+    }
+
+    private static synchronized int addItemName(String itemName) {
+        Integer knownItemId = itemIds.get(itemName);
+        if (knownItemId != null) {
+            return knownItemId;
+        }
+        int itemId = itemIds.size();
+        String[] names = itemNames;
+        if (itemId == names.length) {
+            names = Arrays.copyOf(names, 2 * names.length);
+        }
+        names[itemId] = itemName;
+        itemNames = names;
+        // The name is stored before its id is published, so anyone holding the id can read the name
+        itemIds.put(itemName, itemId);
+        return itemId;
+    }
+
+    private static String getItemName(int itemId) {
+        return itemNames[itemId];
+    }
+
+    /**
+     * Up to {@code CHUNK_SIZE} consecutive orders, one column per field.
+     */
+    static final class Chunk implements ChunkedList.Chunk<Order, Chunk> {
+        private static final Chunk EMPTY = new Chunk(0);
+
+        private final int[] itemIds;
+        private final int[] itemPoints;
+        private final int[] quantities;
+        private final long[] epochSeconds;
+
+        Chunk(int size) {
+            this(new int[size], new int[size], new int[size], new long[size]);
+        }
+
+        private Chunk(int[] itemIds, int[] itemPoints, int[] quantities, long[] epochSeconds) {
+            this.itemIds = itemIds;
+            this.itemPoints = itemPoints;
+            this.quantities = quantities;
+            this.epochSeconds = epochSeconds;
+        }
+
+        @Override
+        public int size() {
+            return itemIds.length;
+        }
+
+        @Override
+        public Chunk empty() {
+            return EMPTY;
+        }
+
+        @Override
+        public Chunk copyOf(int size) {
+            return new Chunk(Arrays.copyOf(itemIds, size), Arrays.copyOf(itemPoints, size),
+                    Arrays.copyOf(quantities, size), Arrays.copyOf(epochSeconds, size));
+        }
+
+        @Override
+        public boolean startsWith(Chunk other, int count) {
+            return Arrays.equals(itemIds, 0, count, other.itemIds, 0, count)
+                    && Arrays.equals(itemPoints, 0, count, other.itemPoints, 0, count)
+                    && Arrays.equals(quantities, 0, count, other.quantities, 0, count)
+                    && Arrays.equals(epochSeconds, 0, count, other.epochSeconds, 0, count);
+        }
+
+        @Override
+        public void set(int index, Order order) {
+            itemIds[index] = getItemId(order.getItemName());
+            itemPoints[index] = order.getItemPoints();
+            quantities[index] = order.getQuantity();
+            epochSeconds[index] = order.orderDateTime.toEpochSecond(ZoneOffset.UTC);
+        }
+
+        @Override
+        public Order get(int index) {
+            Item item = ItemTable.intern(getItemName(itemIds[index]), itemPoints[index]);
+            LocalDateTime orderDateTime = LocalDateTime.ofEpochSecond(epochSeconds[index], 0, ZoneOffset.UTC);
+            return new Order(item, quantities[index], orderDateTime);
+        }
+    }
+}
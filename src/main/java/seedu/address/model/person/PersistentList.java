@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that is extended by returning a new list sharing almost all of its structure with the old one.
+ * Elements are stored in a tree of arrays with up to 32 children per node, plus a tail array holding the last
+ * elements. Appending copies only the tail, or the path from the root to the new leaf when the tail is full,
+ * so it takes O(log n) time and memory instead of copying the whole list.
+ * Modifying it through the {@code List} interface throws {@code UnsupportedOperationException}.
+ */
+final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, NO_ELEMENTS, NO_ELEMENTS);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order.
+     * If {@code elements} is already a {@code PersistentList}, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+
+        PersistentList<E> list = empty();
+        Object[] leaf = new Object[WIDTH];
+        int leafSize = 0;
+        for (E element : elements) {
+            requireNonNull(element);
+            leaf[leafSize++] = element;
+            if (leafSize == WIDTH) {
+                // Whole leaves go straight into the tree, so only the path to each leaf is copied.
+                list = list.appendLeaf(leaf);
+                leaf = new Object[WIDTH];
+                leafSize = 0;
+            }
+        }
+        for (int i = 0; i < leafSize; i++) {
+            list = list.append((E) leaf[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Returns a list of the elements of this list followed by {@code element}. This list is unchanged.
+     */
+    PersistentList<E> append(E element) {
+        requireNonNull(element);
+        if (size - getTailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+
+        PersistentList<E> withFullTail = withTailInTree();
+        return new PersistentList<>(size + 1, withFullTail.shift, withFullTail.root, new Object[] {element});
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) getArrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns this list with {@code leaf}, which must be full, appended. Only used when the tail is empty.
+     */
+    private PersistentList<E> appendLeaf(Object[] leaf) {
+        assert tail.length == 0 && leaf.length == WIDTH;
+        return new PersistentList<E>(size + WIDTH, shift, root, leaf).withTailInTree();
+    }
+
+    /**
+     * Returns a list with the same elements as this one, whose full tail has been moved into the tree.
+     */
+    private PersistentList<E> withTailInTree() {
+        assert tail.length == WIDTH;
+        int sizeInTree = size - WIDTH;
+        if ((sizeInTree >>> BITS) == (1 << shift)) {
+            // The tree is full, so it becomes the first child of a new, taller root.
+            Object[] newRoot = new Object[] {root, createPath(shift, tail)};
+            return new PersistentList<>(size, shift + BITS, newRoot, NO_ELEMENTS);
+        }
+        return new PersistentList<>(size, shift, pushLeaf(shift, root, sizeInTree, tail), NO_ELEMENTS);
+    }
+
+    /**
+     * Returns a copy of {@code node}, at {@code level}, with {@code leaf} added as the element leaf
+     * starting at {@code leafOffset}. Only the nodes on the path to the new leaf are copied.
+     */
+    private static Object[] pushLeaf(int level, Object[] node, int leafOffset, Object[] leaf) {
+        int childIndex = (leafOffset >>> level) & MASK;
+        Object[] newNode = Arrays.copyOf(node, Math.max(node.length, childIndex + 1));
+        if (level == BITS) {
+            newNode[childIndex] = leaf;
+        } else if (childIndex < node.length) {
+            newNode[childIndex] = pushLeaf(level - BITS, (Object[]) node[childIndex], leafOffset, leaf);
+        } else {
+            newNode[childIndex] = createPath(level - BITS, leaf);
+        }
+        return newNode;
+    }
+
+    private static Object[] createPath(int level, Object[] leaf) {
+        return level == 0 ? leaf : new Object[] {createPath(level - BITS, leaf)};
+    }
+
+    private int getTailOffset() {
+        return size - tail.length;
+    }
+
+    private Object[] getArrayFor(int index) {
+        if (index >= getTailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+}
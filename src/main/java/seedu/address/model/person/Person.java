@@ -1,10 +1,12 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -25,27 +27,53 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Allergen> allergens = new HashSet<>();
-    private final ArrayList<Order> orders = new ArrayList<>();
+    private final Set<Allergen> allergens;
+    private final OrderHistory orders;
+    private final Points points;
+    private final MembershipPoints membershipPoints;
+    private final PointsLedger ledger;
 
-    // Points and Membership Points can be updated by {@code addPoints} method only
-    private Points points;
-    private MembershipPoints membershipPoints;
+    /**
+     * Every field must be present and not null. The person starts with an empty points ledger.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, MembershipPoints membershipPoints,
+                  Set<Allergen> allergens, Points points, List<Order> orders) {
+        this(name, phone, email, address, membershipPoints, allergens, points, orders, PointsLedger.empty());
+    }
 
     /**
      * Every field must be present and not null.
+     * Orders are immutable, so {@code orders} is only copied if it is not already a list from {@link #getOrders()}.
+     * This lets a person rebuilt from another share its order history without copying it.
      */
     public Person(Name name, Phone phone, Email email, Address address, MembershipPoints membershipPoints,
-                  Set<Allergen> allergens, Points points, ArrayList<Order> orders) {
-        requireAllNonNull(name, phone, email, address, membershipPoints, allergens, points, orders);
+                  Set<Allergen> allergens, Points points, List<Order> orders, PointsLedger ledger) {
+        requireAllNonNull(name, phone, email, address, membershipPoints, allergens, points, orders, ledger);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.membershipPoints = membershipPoints;
-        this.allergens.addAll(allergens);
+        this.allergens = Collections.unmodifiableSet(new HashSet<>(allergens));
         this.points = points;
-        this.orders.addAll(orders);
+        this.orders = OrderHistory.copyOf(orders);
+        this.ledger = ledger;
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given points, orders and ledger, sharing all its other fields.
+     */
+    private Person(Person source, MembershipPoints membershipPoints, Points points, OrderHistory orders,
+                   PointsLedger ledger) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.allergens = source.allergens;
+        this.membershipPoints = membershipPoints;
+        this.points = points;
+        this.orders = orders;
+        this.ledger = ledger;
     }
 
     public Name getName() {
@@ -73,7 +101,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Allergen> getAllergens() {
-        return Collections.unmodifiableSet(allergens);
+        return allergens;
     }
 
     public Points getPoints() {
@@ -81,29 +109,79 @@ public class Person {
     }
 
     /**
-     * Returns a copy of the orders of this Person
+     * Returns an immutable list of the orders of this Person, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
      */
-    public ArrayList<Order> getOrders() {
-        ArrayList<Order> copy = new ArrayList<>();
-        for (Order order : orders) {
-            copy.add(order.clone());
-        }
-        return copy;
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Returns the history of changes to the points and membership points of this Person, oldest first.
+     */
+    public PointsLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Returns a copy of this person with {@code points} in place of the current points, recording the change
+     * in its ledger as {@code kind}. The copy shares every other field with this person.
+     */
+    public Person withPoints(Points points, LedgerEntry.Kind kind) {
+        requireAllNonNull(points, kind);
+        LedgerEntry entry = new LedgerEntry(kind, points.getValue() - this.points.getValue(), 0,
+                LocalDateTime.now());
+        return new Person(this, membershipPoints, points, orders, ledger.append(entry));
     }
 
     /**
-     * Adds an Order to the list of orders of this Person
+     * Returns a copy of this person with {@code membershipPoints} in place of the current membership points,
+     * recording the change in its ledger as {@code kind}. The copy shares every other field with this person.
      */
-    public void addOrders(Order order) {
-        this.orders.add(order);
+    public Person withMembershipPoints(MembershipPoints membershipPoints, LedgerEntry.Kind kind) {
+        requireAllNonNull(membershipPoints, kind);
+        LedgerEntry entry = new LedgerEntry(kind, 0, membershipPoints.value - this.membershipPoints.value,
+                LocalDateTime.now());
+        return new Person(this, membershipPoints, points, orders, ledger.append(entry));
+    }
+
+    /**
+     * Returns a copy of this person with {@code order} added to the end of its orders, and the points earned
+     * from it added to both its points and membership points and recorded in its ledger.
+     * The order history and ledger of the copy share all but O(log n) of their storage with those of this person.
+     */
+    public Person withOrder(Order order, long pointsEarned) {
+        requireNonNull(order);
+        LedgerEntry entry = new LedgerEntry(LedgerEntry.Kind.ORDER, pointsEarned, pointsEarned, order.orderDateTime);
+        return new Person(this, membershipPoints.addPoints(pointsEarned), points.addPoints(pointsEarned),
+                orders.append(order), ledger.append(entry));
+    }
+
+    /**
+     * Returns a copy of this person with {@code addedOrders} and {@code addedLedgerEntries} added to the end of its
+     * orders and ledger, without changing its points. The copy shares every other field with this person.
+     */
+    public Person withAddedHistory(List<Order> addedOrders, List<LedgerEntry> addedLedgerEntries) {
+        requireAllNonNull(addedOrders, addedLedgerEntries);
+        OrderHistory newOrders = orders;
+        for (Order order : addedOrders) {
+            newOrders = newOrders.append(order);
+        }
+        PointsLedger newLedger = ledger;
+        for (LedgerEntry entry : addedLedgerEntries) {
+            newLedger = newLedger.append(entry);
+        }
+        return new Person(this, membershipPoints, points, newOrders, newLedger);
     }
 
     /**
-     * Adds points to the current points and membership points.
+     * Returns true if the orders and ledger of this person begin with all those of {@code earlier}, as when this
+     * person was made from {@code earlier} by adding orders or changing points. This is quick in that case, as the
+     * order histories and ledgers of the two persons then share their storage.
      */
-    public void addPoints(int pointsToAdd) {
-        this.points = this.points.addPoints(pointsToAdd);
-        this.membershipPoints = this.membershipPoints.addPoints(pointsToAdd);
+    public boolean hasHistoryOf(Person earlier) {
+        requireNonNull(earlier);
+        return orders.startsWith(earlier.orders) && ledger.startsWith(earlier.ledger);
     }
 
     /**
@@ -122,6 +200,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The ledger only records how the points were reached, so it is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -4,15 +4,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.MathUtil;
+
 /**
- * Represents a Person's remark in the address book.
+ * Represents a Person's reward points in the address book.
  * Guarantees: immutable; is always valid
  */
 public final class Points {
     public static final String MESSAGE_CONSTRAINTS =
             "Points should be a non-negative integer.";
 
-    public final int value;
+    public final long value;
 
     /**
      * Constructs a {@code Points} object.
@@ -22,7 +24,7 @@ public final class Points {
     public Points(final String points) {
         requireNonNull(points);
         checkArgument(isValidPoints(points), MESSAGE_CONSTRAINTS);
-        this.value = Integer.parseInt(points);
+        this.value = Long.parseLong(points);
     }
 
     /**
@@ -30,7 +32,7 @@ public final class Points {
      *
      * @param points A valid points integer.
      */
-    public Points(final int points) {
+    public Points(final long points) {
         this.value = points;
     }
 
@@ -38,24 +40,34 @@ public final class Points {
      * Returns true if a given string is a valid points amount.
      *
      * @param test The string to test.
-     * @return true if the string represents a non-negative integer.
+     * @return true if the string represents a non-negative integer that fits in a {@code long}.
      */
     public static boolean isValidPoints(String test) {
         try {
-            int value = Integer.parseInt(test);
-            return value >= 0; // Points must be non-negative
+            return isValidPoints(Long.parseLong(test));
         } catch (NumberFormatException e) {
             return false; // The string was not an integer.
         }
     }
 
-    public Points addPoints(int pointsToAdd) {
-        return new Points(this.value + pointsToAdd);
+    /**
+     * Returns true if a given number is a valid points amount.
+     */
+    public static boolean isValidPoints(long test) {
+        return test >= 0; // Points must be non-negative
+    }
+
+    /**
+     * Returns the points after adding {@code pointsToAdd}.
+     * A total too large for a {@code long} is capped at {@code Long.MAX_VALUE} instead of overflowing.
+     */
+    public Points addPoints(long pointsToAdd) {
+        return new Points(MathUtil.saturatedAdd(value, pointsToAdd));
     }
 
     @Override
     public String toString() {
-        return Integer.toString(value);
+        return Long.toString(value);
     }
 
     /**
@@ -63,7 +75,7 @@ public final class Points {
      *
      * @return The integer value of the points.
      */
-    public int getValue() {
+    public long getValue() {
         return this.value;
     }
 
@@ -83,6 +95,6 @@ public final class Points {
 
     @Override
     public int hashCode() {
-        return Integer.hashCode(value);
+        return Long.hashCode(value);
     }
 }
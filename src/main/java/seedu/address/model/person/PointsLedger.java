@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The history of changes to the points and membership points of a person, oldest first. Entries can only be added
+ * at the end. The balances themselves are kept by the person, so they never need to be worked out from the ledger.
+ *
+ * <p>Like {@link OrderHistory}, the ledger is a {@link ChunkedList}: entries are stored in columns of primitives,
+ * about 25 bytes each, and a {@code LedgerEntry} is only created when an element is read. The ledger is immutable
+ * and appending returns a new ledger sharing all full chunks with this one.
+ */
+public final class PointsLedger extends ChunkedList<LedgerEntry, PointsLedger.Chunk> {
+
+    private static final LedgerEntry.Kind[] KINDS = LedgerEntry.Kind.values();
+    private static final PointsLedger EMPTY = new PointsLedger(PersistentList.empty(), Chunk.EMPTY);
+
+    private PointsLedger(PersistentList<Chunk> fullChunks, Chunk tail) {
+        super(fullChunks, tail);
+    }
+
+    /**
+     * Returns a ledger with no entries.
+     */
+    public static PointsLedger empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a ledger of the entries in {@code entries}, in iteration order.
+     * If {@code entries} is already a {@code PointsLedger}, it is returned as is.
+     */
+    public static PointsLedger copyOf(Collection<LedgerEntry> entries) {
+        requireNonNull(entries);
+        if (entries instanceof PointsLedger) {
+            return (PointsLedger) entries;
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        return copyOf(entries, Chunk.EMPTY, PointsLedger::new);
+    }
+
+    /**
+     * Returns a ledger of the entries in this ledger followed by {@code entry}. This ledger is unchanged.
+     */
+    public PointsLedger append(LedgerEntry entry) {
+        return append(entry, PointsLedger::new);
+    }
+
+    /**
+     * Up to {@code CHUNK_SIZE} consecutive entries, one column per field.
+     */
+    static final class Chunk implements ChunkedList.Chunk<LedgerEntry, Chunk> {
+        private static final Chunk EMPTY = new Chunk(0);
+
+        private final byte[] kinds;
+        private final long[] pointsChanges;
+        private final long[] membershipPointsChanges;
+        private final long[] epochSeconds;
+
+        Chunk(int size) {
+            this(new byte[size], new long[size], new long[size], new long[size]);
+        }
+
+        private Chunk(byte[] kinds, long[] pointsChanges, long[] membershipPointsChanges, long[] epochSeconds) {
+            this.kinds = kinds;
+            this.pointsChanges = pointsChanges;
+            this.membershipPointsChanges = membershipPointsChanges;
+            this.epochSeconds = epochSeconds;
+        }
+
+        @Override
+        public int size() {
+            return kinds.length;
+        }
+
+        @Override
+        public Chunk empty() {
+            return EMPTY;
+        }
+
+        @Override
+        public Chunk copyOf(int size) {
+            return new Chunk(Arrays.copyOf(kinds, size), Arrays.copyOf(pointsChanges, size),
+                    Arrays.copyOf(membershipPointsChanges, size), Arrays.copyOf(epochSeconds, size));
+        }
+
+        @Override
+        public boolean startsWith(Chunk other, int count) {
+            return Arrays.equals(kinds, 0, count, other.kinds, 0, count)
+                    && Arrays.equals(pointsChanges, 0, count, other.pointsChanges, 0, count)
+                    && Arrays.equals(membershipPointsChanges, 0, count, other.membershipPointsChanges, 0, count)
+                    && Arrays.equals(epochSeconds, 0, count, other.epochSeconds, 0, count);
+        }
+
+        @Override
+        public void set(int index, LedgerEntry entry) {
+            kinds[index] = (byte) entry.getKind().ordinal();
+            pointsChanges[index] = entry.getPointsChange();
+            membershipPointsChanges[index] = entry.getMembershipPointsChange();
+            epochSeconds[index] = entry.getTime().toEpochSecond(ZoneOffset.UTC);
+        }
+
+        @Override
+        public LedgerEntry get(int index) {
+            LocalDateTime time = LocalDateTime.ofEpochSecond(epochSeconds[index], 0, ZoneOffset.UTC);
+            return new LedgerEntry(KINDS[kinds[index]], pointsChanges[index], membershipPointsChanges[index], time);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.person;
+
+/**
+ * Represents a membership tier and the minimum membership points required to reach it.
+ * Tiers are declared from highest to lowest.
+ */
+public enum Tier {
+    PLATINUM(10000),
+    GOLD(5000),
+    SILVER(2000),
+    BRONZE(0);
+
+    private static final Tier[] HIGHEST_FIRST = values();
+
+    private final int minimumPoints;
+
+    Tier(int minimumPoints) {
+        this.minimumPoints = minimumPoints;
+    }
+
+    public int getMinimumPoints() {
+        return minimumPoints;
+    }
+
+    /**
+     * Returns the highest tier reached with {@code points} membership points.
+     * Members below every threshold are in the lowest tier.
+     */
+    public static Tier of(long points) {
+        for (Tier tier : HIGHEST_FIRST) {
+            if (points >= tier.minimumPoints) {
+                return tier;
+            }
+        }
+        return BRONZE;
+    }
+}
@@ -3,11 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.allergen.AllergenExpression;
+import seedu.address.model.allergen.AllergenIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +32,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by name, which is what {@code Person#isSamePerson(Person)} compares,
+ * so that duplicate checks, lookups by name and searches by part of a name do not need to scan the list.
+ * They are indexed by phone number and email as well, which several persons may share, and by allergen.
+ * The number of persons in each membership tier is kept up to date as persons change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,15 +44,94 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final Map<Phone, Set<Name>> namesByPhone = new HashMap<>();
+    private final Map<Email, Set<Name>> namesByEmail = new HashMap<>();
+    private final AllergenIndex allergenIndex = new AllergenIndex();
+    private final int[] personCountsByTier = new int[Tier.values().length];
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Bumped on every change, so that callers can tell whether the list changed since they last looked.
+    private long modificationCount;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with the given {@code name}, if there is one.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Returns the persons with the given {@code phone}, sorted by name.
+     */
+    public List<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return getPersonsSortedByName(namesByPhone.getOrDefault(phone, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons with the given {@code email}, sorted by name.
+     */
+    public List<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return getPersonsSortedByName(namesByEmail.getOrDefault(email, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the names of the persons whose allergens match {@code expression}.
+     */
+    public Set<Name> findNamesWithAllergens(AllergenExpression expression) {
+        requireNonNull(expression);
+        return allergenIndex.findNames(expression);
+    }
+
+    /**
+     * Returns the number of persons whose membership is in {@code tier}.
+     */
+    public int countInTier(Tier tier) {
+        requireNonNull(tier);
+        return personCountsByTier[tier.ordinal()];
+    }
+
+    /**
+     * Returns a test of whether a person in this list has any of {@code words} as a whole word of their name,
+     * ignoring case, that follows later changes to the list.
+     *
+     * @see NameIndex#hasAnyWord(Collection)
+     */
+    public Predicate<Person> nameHasAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Predicate<Name> hasAnyWord = nameIndex.hasAnyWord(words);
+        return person -> hasAnyWord.test(person.getName());
+    }
+
+    /**
+     * Returns the names of up to {@code limit} persons whose name is similar to {@code text}, closest first.
+     *
+     * @see NameIndex#findSimilarNames(String, int)
+     */
+    public List<Name> findSimilarNames(String text, int limit) {
+        requireNonNull(text);
+        return nameIndex.findSimilarNames(text, limit);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code namePart}, ignoring case, sorted by name.
+     */
+    public List<Person> findByNameContaining(String namePart) {
+        requireNonNull(namePart);
+        return getPersonsSortedByName(nameIndex.findNamesContaining(namePart));
     }
 
     /**
@@ -45,7 +143,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        // The indexes are updated first, so that listeners of the list can look the person up in them
+        personsByName.put(toAdd.getName(), toAdd);
+        nameIndex.add(toAdd.getName());
+        indexDetails(toAdd);
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -56,8 +159,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByName.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +167,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            nameIndex.remove(target.getName());
+            nameIndex.add(editedPerson.getName());
+        }
+        unindexDetails(target);
+        indexDetails(editedPerson);
         internalList.set(index, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -74,27 +186,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByName.get(toRemove.getName()))) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(toRemove);
+        personsByName.remove(toRemove.getName());
+        nameIndex.remove(toRemove.getName());
+        unindexDetails(toRemove);
+        modificationCount++;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        rebuildIndexes();
         internalList.setAll(replacement.internalList);
+        modificationCount++;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException naming the duplicated persons, if there are any.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> newPersonsByName = indexByName(persons);
 
+        personsByName.clear();
+        personsByName.putAll(newPersonsByName);
+        rebuildIndexes();
         internalList.setAll(persons);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to this list so far.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -134,17 +269,65 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        namesByPhone.clear();
+        namesByEmail.clear();
+        allergenIndex.clear();
+        Arrays.fill(personCountsByTier, 0);
+        for (Person person : personsByName.values()) {
+            nameIndex.add(person.getName());
+            indexDetails(person);
+        }
+    }
+
+    private void indexDetails(Person person) {
+        allergenIndex.add(person.getName(), person.getAllergens());
+        namesByPhone.computeIfAbsent(person.getPhone(), unused -> new HashSet<>()).add(person.getName());
+        namesByEmail.computeIfAbsent(person.getEmail(), unused -> new HashSet<>()).add(person.getName());
+        personCountsByTier[person.getMembershipPoints().getTier().ordinal()]++;
+    }
+
+    private void unindexDetails(Person person) {
+        allergenIndex.remove(person.getName());
+        removeFromIndex(namesByPhone, person.getPhone(), person.getName());
+        removeFromIndex(namesByEmail, person.getEmail(), person.getName());
+        personCountsByTier[person.getMembershipPoints().getTier().ordinal()]--;
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Name>> index, K key, Name name) {
+        Set<Name> names = index.get(key);
+        names.remove(name);
+        if (names.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private List<Person> getPersonsSortedByName(Collection<Name> names) {
+        List<Person> persons = new ArrayList<>();
+        for (Name name : names) {
+            persons.add(personsByName.get(name));
+        }
+        persons.sort(Comparator.comparing(person -> person.getName().fullName));
+        return persons;
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by name.
+     *
+     * @throws DuplicatePersonException naming the persons that appear more than once, if there are any.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                duplicateNames.add(person.getName());
             }
         }
-        return true;
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
+        }
+        return index;
     }
 }
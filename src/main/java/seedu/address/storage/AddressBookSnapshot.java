@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Person;
+
+/**
+ * A frozen copy of the persons and items of an address book at one point in time.
+ * Persons and items are immutable, so only the lists are copied. This makes the copy cheap to take on the
+ * thread that changes the address book, and safe to write out from another thread afterwards.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Item> items;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook source) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        items = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getItemList()));
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code source}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        return new AddressBookSnapshot(source);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Item> getItemList() {
+        return items;
+    }
+}
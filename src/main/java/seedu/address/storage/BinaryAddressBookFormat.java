@@ -0,0 +1,533 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.AddMemPointsCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.allergen.Allergen;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemTable;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.LedgerEntry;
+import seedu.address.model.person.MembershipPoints;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Points;
+import seedu.address.model.person.PointsLedger;
+import seedu.address.model.person.orders.Order;
+
+/**
+ * Reads and writes address books in a compact, versioned binary format.
+ *
+ * A file is laid out as:
+ * <pre>
+ *   magic ("SRAB") | version | dictionary | items | persons
+ *   dictionary: count, then each string
+ *   items:      count, then each item as (name id, points)
+ *   persons:    count, then each person as (record length, record)
+ * </pre>
+ * Counts, lengths and dictionary ids are unsigned varints, other numbers are zigzag varints, and strings are
+ * UTF-8 bytes prefixed with their length. Item names and allergens are written once in the dictionary and referred
+ * to by id. Times are epoch seconds in UTC, each written as the difference from the previous time in its list.
+ * Since each person record is prefixed with its length, records can be skipped without being decoded.
+ */
+final class BinaryAddressBookFormat {
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported";
+    public static final String MESSAGE_CORRUPT = "Binary address book is corrupt";
+    public static final String MESSAGE_INVALID_KIND = "Ledger entry kind is invalid";
+
+    static final byte[] MAGIC = {'S', 'R', 'A', 'B'};
+    static final int VERSION = 1;
+
+    private static final LedgerEntry.Kind[] KINDS = LedgerEntry.Kind.values();
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format.
+     * Each person is encoded straight from the model into a reused buffer, so only one record is held at a time.
+     */
+    static void write(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        Map<String, Integer> dictionary = buildDictionary(source);
+
+        Encoder encoder = new Encoder();
+        encoder.bytes(MAGIC);
+        encoder.varint(VERSION);
+        encoder.varint(dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            encoder.string(entry);
+        }
+        encoder.varint(source.getItemList().size());
+        for (Item item : source.getItemList()) {
+            encoder.varint(dictionary.get(item.getName()));
+            encoder.zigzag(item.getPoints());
+        }
+        encoder.varint(source.getPersonList().size());
+        encoder.writeTo(out);
+
+        Encoder record = new Encoder();
+        for (Person person : source.getPersonList()) {
+            record.reset();
+            writePerson(person, dictionary, record);
+            encoder.reset();
+            encoder.varint(record.size());
+            encoder.writeTo(out);
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}, which holds {@code size} bytes.
+     * Counts and lengths read from {@code in} are checked against the bytes left before anything is sized by them.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in, long size) throws IOException, IllegalValueException {
+        StreamSource input = new StreamSource(in, size);
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            input.readFully(magic, magic.length);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            int version = readVarint(input);
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            // Each string takes at least the byte of its length
+            String[] dictionary = new String[checkLength(readVarint(input), input.remaining())];
+            for (int i = 0; i < dictionary.length; i++) {
+                byte[] bytes = new byte[checkLength(readVarint(input), input.remaining())];
+                input.readFully(bytes, bytes.length);
+                dictionary[i] = new String(bytes, UTF_8);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int itemCount = checkLength(readVarint(input), input.remaining());
+            for (int i = 0; i < itemCount; i++) {
+                Item item = toItem(lookUp(dictionary, readVarint(input)), decodeZigzag(readVarlong(input)));
+                if (!addressBook.addItem(item)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ITEM);
+                }
+            }
+
+            int personCount = checkLength(readVarint(input), input.remaining());
+            byte[] record = new byte[0];
+            for (int i = 0; i < personCount; i++) {
+                int length = checkLength(readVarint(input), input.remaining());
+                if (record.length < length) {
+                    record = new byte[(int) Math.min(Math.max(length, 2L * record.length), input.remaining())];
+                }
+                input.readFully(record, length);
+                Person person = readPerson(ByteBuffer.wrap(record, 0, length), dictionary);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } catch (EOFException e) {
+            throw new IOException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    /**
+     * Reads everything before the person records from the start of {@code buffer}, leaving {@code buffer} positioned
+     * at the length of the first person record.
+     * The person count is not checked, as the person records need not be in {@code buffer}.
+     *
+     * @throws IOException if {@code buffer} does not start with a binary address book header.
+     * @throws IllegalValueException if there were any data constraints violated in the items.
+     */
+    static Header readHeader(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(MESSAGE_NOT_BINARY);
+            }
+            int version = readVarint(buffer);
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] dictionary = new String[checkLength(readVarint(buffer), buffer.remaining())];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(buffer);
+            }
+
+            int itemCount = checkLength(readVarint(buffer), buffer.remaining());
+            List<Item> items = new ArrayList<>(itemCount);
+            Set<String> itemNames = new HashSet<>();
+            for (int i = 0; i < itemCount; i++) {
+                Item item = toItem(lookUp(dictionary, readVarint(buffer)), decodeZigzag(readVarlong(buffer)));
+                if (!itemNames.add(item.getName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ITEM);
+                }
+                items.add(item);
+            }
+            return new Header(dictionary, items, readVarint(buffer));
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    /**
+     * Reads the length of the person record at the position of {@code buffer}, leaving {@code buffer} positioned at
+     * the start of the record.
+     *
+     * @throws IOException if there is no well-formed length at the position of {@code buffer}.
+     */
+    static int readRecordLength(ByteBuffer buffer) throws IOException {
+        try {
+            return readVarint(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    /**
+     * Decodes the person record held in the remaining bytes of {@code record}.
+     *
+     * @param dictionary the dictionary read from the same file.
+     * @throws IOException if the record is not a whole, well-formed person record.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Person readPerson(ByteBuffer record, String[] dictionary) throws IOException, IllegalValueException {
+        try {
+            Person person = decodePerson(record, dictionary);
+            if (record.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPT);
+            }
+            return person;
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPT, e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes only the name of the person record held in the remaining bytes of {@code record}.
+     *
+     * @throws IOException if the record does not start with a well-formed name.
+     * @throws IllegalValueException if the name is not a valid name.
+     */
+    static Name readPersonName(ByteBuffer record) throws IOException, IllegalValueException {
+        String name;
+        try {
+            name = readString(record);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPT, e);
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private static Map<String, Integer> buildDictionary(ReadOnlyAddressBook source) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Item item : source.getItemList()) {
+            dictionary.putIfAbsent(item.getName(), dictionary.size());
+        }
+        for (Person person : source.getPersonList()) {
+            for (Allergen allergen : person.getAllergens()) {
+                dictionary.putIfAbsent(allergen.allergenName, dictionary.size());
+            }
+            for (Order order : person.getOrders()) {
+                dictionary.putIfAbsent(order.item.getName(), dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    private static void writePerson(Person person, Map<String, Integer> dictionary, Encoder record) {
+        record.string(person.getName().fullName);
+        record.string(person.getPhone().value);
+        record.string(person.getEmail().value);
+        record.string(person.getAddress().value);
+        record.zigzag(person.getPoints().getValue());
+        record.zigzag(person.getMembershipPoints().value);
+
+        record.varint(person.getAllergens().size());
+        for (Allergen allergen : person.getAllergens()) {
+            record.varint(dictionary.get(allergen.allergenName));
+        }
+
+        List<Order> orders = person.getOrders();
+        record.varint(orders.size());
+        long previousTime = 0;
+        for (Order order : orders) {
+            long time = order.orderDateTime.toEpochSecond(ZoneOffset.UTC);
+            record.varint(dictionary.get(order.item.getName()));
+            record.zigzag(order.item.getPoints());
+            record.zigzag(order.quantity);
+            record.zigzag(time - previousTime);
+            previousTime = time;
+        }
+
+        PointsLedger ledger = person.getLedger();
+        record.varint(ledger.size());
+        previousTime = 0;
+        for (LedgerEntry entry : ledger) {
+            long time = entry.getTime().toEpochSecond(ZoneOffset.UTC);
+            record.varint(entry.getKind().ordinal());
+            record.zigzag(entry.getPointsChange());
+            record.zigzag(entry.getMembershipPointsChange());
+            record.zigzag(time - previousTime);
+            previousTime = time;
+        }
+    }
+
+    private static Person decodePerson(ByteBuffer record, String[] dictionary)
+            throws IOException, IllegalValueException {
+        Name name = new Name(readString(record));
+        Phone phone = new Phone(readString(record));
+        Email email = new Email(readString(record));
+        Address address = new Address(readString(record));
+        long pointsValue = decodeZigzag(readVarlong(record));
+        if (!Points.isValidPoints(pointsValue)) {
+            throw new IllegalValueException(Points.MESSAGE_CONSTRAINTS);
+        }
+        long membershipPointsValue = decodeZigzag(readVarlong(record));
+        if (!MembershipPoints.isValidMembershipPoints(membershipPointsValue)) {
+            throw new IllegalValueException(AddMemPointsCommand.MESSAGE_CONSTRAINTS);
+        }
+        Points points = new Points(pointsValue);
+        MembershipPoints membershipPoints = new MembershipPoints(membershipPointsValue);
+
+        int allergenCount = checkLength(readVarint(record), record.remaining());
+        Set<Allergen> allergens = new HashSet<>();
+        for (int i = 0; i < allergenCount; i++) {
+            allergens.add(new Allergen(lookUp(dictionary, readVarint(record))));
+        }
+
+        int orderCount = checkLength(readVarint(record), record.remaining());
+        List<Order> orders = new ArrayList<>(orderCount);
+        long time = 0;
+        for (int i = 0; i < orderCount; i++) {
+            String itemName = lookUp(dictionary, readVarint(record));
+            long itemPoints = decodeZigzag(readVarlong(record));
+            long quantity = decodeZigzag(readVarlong(record));
+            time += decodeZigzag(readVarlong(record));
+            if (!Order.isValidItems(itemName) || itemPoints != (int) itemPoints) {
+                throw new IllegalValueException(Order.MESSAGE_CONSTRAINTS);
+            }
+            if (quantity <= 0 || quantity > Integer.MAX_VALUE) {
+                throw new IllegalValueException(Order.MESSAGE_INVALID_QUANTITY);
+            }
+            orders.add(new Order(ItemTable.intern(itemName, (int) itemPoints), (int) quantity,
+                    LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC)));
+        }
+
+        int entryCount = checkLength(readVarint(record), record.remaining());
+        List<LedgerEntry> entries = new ArrayList<>(entryCount);
+        time = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int kind = readVarint(record);
+            if (kind >= KINDS.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_KIND);
+            }
+            long pointsChange = decodeZigzag(readVarlong(record));
+            long membershipPointsChange = decodeZigzag(readVarlong(record));
+            time += decodeZigzag(readVarlong(record));
+            entries.add(new LedgerEntry(KINDS[kind], pointsChange, membershipPointsChange,
+                    LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC)));
+        }
+
+        return new Person(name, phone, email, address, membershipPoints, allergens, points, orders,
+                PointsLedger.copyOf(entries));
+    }
+
+    private static Item toItem(String name, long points) throws IllegalValueException {
+        if (!Item.isValidItemName(name) || points != (int) points) {
+            throw new IllegalValueException(Item.MESSAGE_CONSTRAINTS);
+        }
+        return new Item(name, (int) points);
+    }
+
+    private static String lookUp(String[] dictionary, int id) throws IllegalValueException {
+        if (id >= dictionary.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPT);
+        }
+        return dictionary[id];
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[checkLength(readVarint(buffer), buffer.remaining())];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns {@code length}, a count or length read from a file, if there are at least that many bytes left.
+     */
+    private static int checkLength(int length, long remaining) throws IOException {
+        if (length > remaining) {
+            throw new IOException(MESSAGE_CORRUPT);
+        }
+        return length;
+    }
+
+    private static int readVarint(ByteBuffer buffer) throws IOException {
+        return readVarint(buffer::get);
+    }
+
+    private static long readVarlong(ByteBuffer buffer) throws IOException {
+        return readVarlong(buffer::get);
+    }
+
+    private static int readVarint(ByteSource source) throws IOException {
+        long value = readVarlong(source);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_CORRUPT);
+        }
+        return (int) value;
+    }
+
+    private static long readVarlong(ByteSource source) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = source.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPT);
+    }
+
+    private static long decodeZigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * What a binary address book holds before its person records.
+     */
+    static final class Header {
+        final String[] dictionary;
+        final List<Item> items;
+        final int personCount;
+
+        private Header(String[] dictionary, List<Item> items, int personCount) {
+            this.dictionary = dictionary;
+            this.items = items;
+            this.personCount = personCount;
+        }
+    }
+
+    /**
+     * Bytes that varints are read from.
+     */
+    @FunctionalInterface
+    private interface ByteSource {
+        byte readByte() throws IOException;
+    }
+
+    /**
+     * The bytes of a stream of known size, which keeps count of how many are left.
+     */
+    private static class StreamSource implements ByteSource {
+        private final DataInputStream input;
+        private long remaining;
+
+        StreamSource(InputStream in, long size) {
+            this.input = new DataInputStream(in);
+            this.remaining = size;
+        }
+
+        long remaining() {
+            return remaining;
+        }
+
+        @Override
+        public byte readByte() throws IOException {
+            checkLength(1, remaining);
+            remaining--;
+            return input.readByte();
+        }
+
+        void readFully(byte[] bytes, int length) throws IOException {
+            checkLength(length, remaining);
+            remaining -= length;
+            input.readFully(bytes, 0, length);
+        }
+    }
+
+    /**
+     * A growable buffer that values are encoded into before being written out.
+     */
+    private static class Encoder {
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(buffer, 0, size);
+        }
+
+        void bytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void string(String value) {
+            byte[] bytes = value.getBytes(UTF_8);
+            varint(bytes.length);
+            bytes(bytes);
+        }
+
+        void zigzag(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void varint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(size + extra, 2 * buffer.length));
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * See {@link BinaryAddressBookFormat} for the layout of the file.
+ *
+ * A JSON address book found where the binary file is expected is read as JSON, so that switching an existing data
+ * file to the binary format keeps its data. The file is rewritten in the binary format on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Importing JSON data from " + filePath);
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            return Optional.of(readBinaryFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or does not hold a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected ReadOnlyAddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return BinaryAddressBookFormat.read(in, Files.size(filePath));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE)) {
+            BinaryAddressBookFormat.write(addressBook, out);
+        }
+    }
+
+    /**
+     * Writes the address book in this storage's file to {@code jsonFilePath} as JSON.
+     * Every field kept in the binary file is kept in the JSON file, so the JSON file can be read back by this
+     * storage or by {@link JsonAddressBookStorage} without losing data.
+     *
+     * @throws DataLoadingException if this storage's file could not be read.
+     * @throws IOException if the JSON file could not be written.
+     */
+    public void exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new DataLoadingException(new IOException("No address book found at " + filePath));
+        }
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook.get());
+    }
+
+    /**
+     * Returns true if {@code filePath} starts as a binary address book does. An empty file is not binary.
+     */
+    private static boolean isBinaryFile(Path filePath) throws DataLoadingException {
+        byte[] magic = new byte[BinaryAddressBookFormat.MAGIC.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read = in.readNBytes(magic, 0, magic.length);
+            return read == magic.length && Arrays.equals(magic, BinaryAddressBookFormat.MAGIC);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+}
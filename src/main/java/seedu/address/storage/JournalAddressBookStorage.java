@@ -0,0 +1,459 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file plus an append-only journal on the hard disk.
+ * The snapshot is read and written by another {@code AddressBookStorage}, which must replace the snapshot file as a
+ * whole when saving, as {@link JsonAddressBookStorage} and {@link MappedBinaryAddressBookStorage} do.
+ * Once a snapshot has been read or written, later saves only append the changes to persons and items since the
+ * previous save to the journal, one json record per line. A person that was changed is recorded by its changed
+ * fields and the orders and ledger entries added to it, so whole persons are only written at checkpoints.
+ * Reading replays the journal on top of the snapshot, only taking from the snapshot the persons named by the
+ * journal, so that a snapshot whose persons are decoded on access is not decoded by reading it.
+ *
+ * To keep replay short, a fresh snapshot is written in the background once the journal holds
+ * {@code checkpointThreshold} entries or {@code checkpointInterval} has passed since the last snapshot.
+ * The journal is first moved aside so that saves can keep appending while the snapshot is written,
+ * and the moved journal is deleted once the snapshot is in place. After a crash in between, the moved journal is
+ * replayed onto a snapshot that already holds it, which leaves the snapshot as it is: stored and removed persons
+ * and items are set again, and person updates record the history they were made to, so they are not added twice.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String CHECKPOINT_JOURNAL_FILE_SUFFIX = ".checkpoint";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final Path checkpointJournalFilePath;
+    private final int checkpointThreshold;
+    private final Duration checkpointInterval;
+    private final ExecutorService checkpointExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int entriesSinceSnapshot;
+    private Instant lastSnapshotTime = Instant.now();
+    private Future<?> pendingCheckpoint;
+
+    // Persons and items as last written to disk, used to work out what changed. Null until a baseline exists.
+    private Map<Name, Person> persistedPersons;
+    private Map<String, Item> persistedItems;
+    // The address book last read, which becomes the baseline on the next save, so that reading decodes no persons
+    private ReadOnlyAddressBook unrememberedReadAddressBook;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshots in {@code snapshotStorage},
+     * using the default checkpoint thresholds.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, Config.DEFAULT_JOURNAL_CHECKPOINT_THRESHOLD,
+                Duration.ofSeconds(Config.DEFAULT_JOURNAL_CHECKPOINT_INTERVAL_SECONDS));
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshots in {@code snapshotStorage},
+     * and writes a new snapshot after {@code checkpointThreshold} journal entries or {@code checkpointInterval}.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage, int checkpointThreshold,
+                                     Duration checkpointInterval) {
+        requireAllNonNull(snapshotStorage, checkpointInterval);
+        checkArgument(checkpointThreshold > 0, "Checkpoint threshold should be positive.");
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = getJournalFilePath(snapshotStorage.getAddressBookFilePath());
+        this.checkpointJournalFilePath = getCheckpointJournalFilePath(journalFilePath);
+        this.checkpointThreshold = checkpointThreshold;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path getCheckpointJournalFilePath(Path journalFilePath) {
+        return journalFilePath.resolveSibling(journalFilePath.getFileName() + CHECKPOINT_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     * A journal without a snapshot is ignored, and will be discarded by the next save.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        long loadStartTime = System.nanoTime();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        // A journal left over from an unfinished checkpoint holds older entries than the current journal.
+        long replayStartTime = System.nanoTime();
+        Path journalFile = getJournalFilePath(filePath);
+        List<JsonAdaptedJournalEntry> entries = readJournal(getCheckpointJournalFilePath(journalFile));
+        entries.addAll(readJournal(journalFile));
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = entries.isEmpty() ? snapshot.get() : ReplayedAddressBook.replay(snapshot.get(), entries);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warning("Error reading the persons of " + filePath + " named by its journal: " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in the journal of " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        long replayEndTime = System.nanoTime();
+
+        logger.info(String.format("Loaded snapshot %s in %d ms, replayed %d journal entries in %d ms",
+                filePath, toMillis(replayStartTime - loadStartTime), entries.size(),
+                toMillis(replayEndTime - replayStartTime)));
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            forgetPersistedState();
+            unrememberedReadAddressBook = addressBook;
+            entriesSinceSnapshot = entries.size();
+            lastSnapshotTime = Instant.now();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes in {@code addressBook} since the last save to the journal.
+     * Writes a full snapshot instead if there is nothing to compare against yet,
+     * or if {@code filePath} is not the file managed by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (unrememberedReadAddressBook != null) {
+            rememberPersistedState(unrememberedReadAddressBook);
+            unrememberedReadAddressBook = null;
+        }
+        if (persistedPersons == null) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = collectChanges(addressBook);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(entries);
+        } catch (IOException ioe) {
+            // The remembered state already includes the changes, so fall back to a full snapshot next time.
+            forgetPersistedState();
+            throw ioe;
+        }
+
+        entriesSinceSnapshot += entries.size();
+        if (isCheckpointDue()) {
+            startCheckpoint(addressBook);
+        }
+    }
+
+    /**
+     * Blocks until the checkpoint running in the background, if any, has finished.
+     */
+    public void awaitCheckpoint() throws InterruptedException {
+        Future<?> checkpoint = pendingCheckpoint;
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            checkpoint.get();
+        } catch (ExecutionException e) {
+            // Already logged by the checkpoint itself.
+        }
+    }
+
+    private boolean isCheckpointDue() {
+        return entriesSinceSnapshot >= checkpointThreshold
+                || Duration.between(lastSnapshotTime, Instant.now()).compareTo(checkpointInterval) >= 0;
+    }
+
+    private boolean isCheckpointRunning() {
+        return pendingCheckpoint != null && !pendingCheckpoint.isDone();
+    }
+
+    /**
+     * Moves the journal aside and writes a snapshot of {@code addressBook} in the background.
+     * Saves made in the meantime go to a new journal, which is replayed after the moved one.
+     */
+    private void startCheckpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        if (isCheckpointRunning()) {
+            return;
+        }
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        moveJournalAside();
+        entriesSinceSnapshot = 0;
+        lastSnapshotTime = Instant.now();
+
+        pendingCheckpoint = checkpointExecutor.submit(() -> {
+            try {
+                long startTime = System.nanoTime();
+                writeSnapshot(snapshot);
+                Files.deleteIfExists(checkpointJournalFilePath);
+                logger.info("Checkpointed " + getAddressBookFilePath() + " in "
+                        + toMillis(System.nanoTime() - startTime) + " ms");
+            } catch (IOException e) {
+                // The moved journal is kept, so no entries are lost; the next checkpoint will try again.
+                logger.warning("Failed to checkpoint " + getAddressBookFilePath() + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Moves the journal to the checkpoint journal, appending to it if an earlier checkpoint did not complete.
+     */
+    private void moveJournalAside() throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return;
+        }
+        if (FileUtil.isFileExists(checkpointJournalFilePath)) {
+            try (OutputStream out = Files.newOutputStream(checkpointJournalFilePath, StandardOpenOption.APPEND)) {
+                Files.copy(journalFilePath, out);
+            }
+            Files.delete(journalFilePath);
+        } else {
+            Files.move(journalFilePath, checkpointJournalFilePath, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot and discards the journals, which the snapshot supersedes.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        forgetPersistedState();
+        try {
+            awaitCheckpoint();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for checkpoint", e);
+        }
+
+        writeSnapshot(addressBook);
+        Files.deleteIfExists(checkpointJournalFilePath);
+        Files.deleteIfExists(journalFilePath);
+        rememberPersistedState(addressBook);
+        entriesSinceSnapshot = 0;
+        lastSnapshotTime = Instant.now();
+    }
+
+    /**
+     * Writes {@code addressBook} over the snapshot. The snapshot storage writes a temporary file and then replaces
+     * the snapshot with it, so a crash part way through never leaves a truncated snapshot behind, and a mapped
+     * snapshot is replaced the way its storage allows.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Returns the journal entries that bring the persisted state up to date with {@code addressBook},
+     * and records {@code addressBook} as the persisted state.
+     * Persons and items are immutable, so an entry is only needed where the stored instance differs, and then only
+     * if its data differs too, as persons of the address book last read may be decoded again on each access.
+     */
+    private List<JsonAdaptedJournalEntry> collectChanges(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        List<Person> persons = addressBook.getPersonList();
+        for (Person person : persons) {
+            Person persistedPerson = persistedPersons.put(person.getName(), person);
+            if (persistedPerson == null) {
+                entries.add(JsonAdaptedJournalEntry.putPerson(person));
+            } else if (persistedPerson != person && !hasSameData(persistedPerson, person)) {
+                entries.add(JsonAdaptedJournalEntry.updatePerson(persistedPerson, person));
+            }
+        }
+        if (persistedPersons.size() > persons.size()) {
+            Set<Name> currentNames = new HashSet<>();
+            persons.forEach(person -> currentNames.add(person.getName()));
+            persistedPersons.keySet().removeIf(name -> {
+                if (currentNames.contains(name)) {
+                    return false;
+                }
+                entries.add(JsonAdaptedJournalEntry.removePerson(name));
+                return true;
+            });
+        }
+
+        List<Item> items = addressBook.getItemList();
+        for (Item item : items) {
+            if (persistedItems.put(getItemKey(item.getName()), item) != item) {
+                entries.add(JsonAdaptedJournalEntry.putItem(item));
+            }
+        }
+        if (persistedItems.size() > items.size()) {
+            Set<String> currentKeys = new HashSet<>();
+            items.forEach(item -> currentKeys.add(getItemKey(item.getName())));
+            persistedItems.entrySet().removeIf(entry -> {
+                if (currentKeys.contains(entry.getKey())) {
+                    return false;
+                }
+                entries.add(JsonAdaptedJournalEntry.removeItem(entry.getValue().getName()));
+                return true;
+            });
+        }
+
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the journal in a single write, one compact json record per line.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        Files.write(journalFilePath, records.toString().getBytes(UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        logger.fine("Appended " + entries.size() + " entries to journal " + journalFilePath);
+    }
+
+    /**
+     * Returns true if {@code person} holds exactly the data of {@code persistedPerson}, ledger included.
+     */
+    private static boolean hasSameData(Person persistedPerson, Person person) {
+        return persistedPerson.equals(person) && persistedPerson.getLedger().equals(person.getLedger());
+    }
+
+    /**
+     * Reads every entry of the journal at {@code journalFile}.
+     * A record that cannot be parsed is taken to be a write cut short by a crash, and ends the journal.
+     *
+     * @throws DataLoadingException if the journal cannot be read.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalFile) throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFile)) {
+            return entries;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+                } catch (IOException e) {
+                    logger.warning("Ignoring incomplete journal entry " + (entries.size() + 1) + " in "
+                            + journalFile + ": " + e.getMessage());
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return entries;
+    }
+
+    private void rememberPersistedState(ReadOnlyAddressBook addressBook) {
+        persistedPersons = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> persistedPersons.put(person.getName(), person));
+        persistedItems = new HashMap<>();
+        addressBook.getItemList().forEach(item -> persistedItems.put(getItemKey(item.getName()), item));
+    }
+
+    private void forgetPersistedState() {
+        persistedPersons = null;
+        persistedItems = null;
+        unrememberedReadAddressBook = null;
+    }
+
+    private static String getItemKey(String itemName) {
+        return itemName.toLowerCase();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -2,7 +2,11 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.model.item.Item;
 
@@ -17,6 +21,7 @@ public class JsonAdaptedItem {
     /**
      * Constructs a {@code JsonAdaptedItem} with the given {@code name} and {@code points}.
      */
+    @JsonCreator
     public JsonAdaptedItem(@JsonProperty("name") String name, @JsonProperty("points") String points) {
         requireNonNull(name);
         requireNonNull(points);
@@ -33,6 +38,17 @@ public class JsonAdaptedItem {
         points = String.valueOf(source.getPoints());
     }
 
+    /**
+     * Writes {@code source} to {@code generator} exactly as a {@code JsonAdaptedItem} converted from it is
+     * serialized, without creating one.
+     */
+    static void write(Item source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName());
+        generator.writeStringField("points", String.valueOf(source.getPoints()));
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted item object into the model's {@code Item} object.
      */
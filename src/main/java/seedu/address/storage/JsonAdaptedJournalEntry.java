@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A change either stores the latest version of a person or item, removes the person or item with a given name,
+ * or updates the person with a given name. An update only holds the fields that changed and the orders and ledger
+ * entries that were added, so the whole person is only stored when it is new or its history was rewritten.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_PUT_PERSON = "putPerson";
+    public static final String OP_UPDATE_PERSON = "updatePerson";
+    public static final String OP_REMOVE_PERSON = "removePerson";
+    public static final String OP_PUT_ITEM = "putItem";
+    public static final String OP_REMOVE_ITEM = "removeItem";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is invalid: %s";
+
+    private final String op;
+    private final String name;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedItem item;
+    private final JsonAdaptedPersonUpdate update;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("name") String name,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("item") JsonAdaptedItem item,
+                                   @JsonProperty("update") JsonAdaptedPersonUpdate update) {
+        this.op = op;
+        this.name = name;
+        this.person = person;
+        this.item = item;
+        this.update = update;
+    }
+
+    /**
+     * Returns an entry that stores the latest version of {@code person}.
+     */
+    public static JsonAdaptedJournalEntry putPerson(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(OP_PUT_PERSON, null, new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns an entry that turns {@code previous} into {@code current}, two versions of the same person.
+     * Only the changes are stored if {@code current} just added to the orders and ledger of {@code previous},
+     * otherwise the whole of {@code current} is.
+     */
+    public static JsonAdaptedJournalEntry updatePerson(Person previous, Person current) {
+        requireNonNull(previous);
+        requireNonNull(current);
+        return JsonAdaptedPersonUpdate.of(previous, current)
+                .map(update -> new JsonAdaptedJournalEntry(OP_UPDATE_PERSON, current.getName().fullName, null, null,
+                        update))
+                .orElseGet(() -> putPerson(current));
+    }
+
+    /**
+     * Returns an entry that removes the person with the given {@code name}.
+     */
+    public static JsonAdaptedJournalEntry removePerson(Name name) {
+        requireNonNull(name);
+        return new JsonAdaptedJournalEntry(OP_REMOVE_PERSON, name.fullName, null, null, null);
+    }
+
+    /**
+     * Returns an entry that stores the latest version of {@code item}.
+     */
+    public static JsonAdaptedJournalEntry putItem(Item item) {
+        requireNonNull(item);
+        return new JsonAdaptedJournalEntry(OP_PUT_ITEM, null, null, new JsonAdaptedItem(item), null);
+    }
+
+    /**
+     * Returns an entry that removes the item with the given {@code name}.
+     */
+    public static JsonAdaptedJournalEntry removeItem(String name) {
+        requireNonNull(name);
+        return new JsonAdaptedJournalEntry(OP_REMOVE_ITEM, name, null, null, null);
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    /**
+     * Returns the name of the person or item removed, or the person updated, by this entry.
+     *
+     * @throws IllegalValueException if this entry does not carry a name.
+     */
+    public String getName() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return name;
+    }
+
+    /**
+     * Returns the name of the person stored, updated or removed by this entry.
+     *
+     * @throws IllegalValueException if this entry does not carry a valid person name.
+     */
+    public Name getPersonName() throws IllegalValueException {
+        String personName = person != null ? person.getName() : name;
+        if (personName == null || !Name.isValidName(personName)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return new Name(personName);
+    }
+
+    /**
+     * Converts the person stored by this entry into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if this entry does not carry a valid person.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Returns {@code previous} with the update of this entry applied.
+     *
+     * @throws IllegalValueException if this entry does not carry a valid update.
+     */
+    public Person applyUpdate(Person previous) throws IllegalValueException {
+        if (update == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return update.applyTo(previous);
+    }
+
+    /**
+     * Converts the item stored by this entry into the model's {@code Item} object.
+     *
+     * @throws IllegalValueException if this entry does not carry an item.
+     */
+    public Item toModelItem() throws IllegalValueException {
+        if (item == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, op));
+        }
+        return item.toModelType();
+    }
+}
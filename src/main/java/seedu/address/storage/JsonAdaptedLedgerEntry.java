@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.LedgerEntry;
+
+/**
+ * Jackson-friendly version of {@link LedgerEntry}.
+ */
+class JsonAdaptedLedgerEntry {
+
+    public static final String MESSAGE_INVALID_KIND = "Ledger entry kind is invalid";
+    public static final String MESSAGE_INVALID_CHANGE = "Ledger entry points change should be an integer";
+    public static final String MESSAGE_INVALID_TIME = "Ledger entry time is invalid";
+
+    private final String kind;
+    private final String pointsChange;
+    private final String membershipPointsChange;
+    private final String time;
+
+    /**
+     * Constructs a {@code JsonAdaptedLedgerEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedLedgerEntry(@JsonProperty("kind") String kind,
+                                  @JsonProperty("pointsChange") String pointsChange,
+                                  @JsonProperty("membershipPointsChange") String membershipPointsChange,
+                                  @JsonProperty("time") String time) {
+        requireNonNull(kind);
+        requireNonNull(pointsChange);
+        requireNonNull(membershipPointsChange);
+        requireNonNull(time);
+        this.kind = kind;
+        this.pointsChange = pointsChange;
+        this.membershipPointsChange = membershipPointsChange;
+        this.time = time;
+    }
+
+    /**
+     * Converts a given {@code LedgerEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedLedgerEntry(LedgerEntry source) {
+        requireNonNull(source);
+        this.kind = source.getKind().name();
+        this.pointsChange = String.valueOf(source.getPointsChange());
+        this.membershipPointsChange = String.valueOf(source.getMembershipPointsChange());
+        this.time = source.getTime().toString();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} exactly as a {@code JsonAdaptedLedgerEntry} converted from it is
+     * serialized, without creating one.
+     */
+    static void write(LedgerEntry source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("kind", source.getKind().name());
+        generator.writeStringField("pointsChange", String.valueOf(source.getPointsChange()));
+        generator.writeStringField("membershipPointsChange", String.valueOf(source.getMembershipPointsChange()));
+        generator.writeStringField("time", source.getTime().toString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into the model's {@code LedgerEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public LedgerEntry toModelType() throws IllegalValueException {
+        LedgerEntry.Kind modelKind;
+        try {
+            modelKind = LedgerEntry.Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_KIND);
+        }
+
+        try {
+            return new LedgerEntry(modelKind, Long.parseLong(pointsChange), Long.parseLong(membershipPointsChange),
+                    LocalDateTime.parse(time));
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+    }
+}
@@ -2,14 +2,17 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemTable;
 import seedu.address.model.person.orders.Order;
 
 /**
@@ -51,6 +54,19 @@ class JsonAdaptedOrder {
         this.orderDateTime = source.orderDateTime.toString();
     }
 
+    /**
+     * Writes {@code source} to {@code generator} exactly as a {@code JsonAdaptedOrder} converted from it is
+     * serialized, without creating one.
+     */
+    static void write(Order source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("itemName", source.item.getName());
+        generator.writeStringField("itemPoints", String.valueOf(source.item.getPoints()));
+        generator.writeStringField("quantity", String.valueOf(source.quantity));
+        generator.writeStringField("orderDateTime", source.orderDateTime.toString());
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted order object into the model's {@code Order} object.
      *
@@ -64,7 +80,7 @@ class JsonAdaptedOrder {
         try {
             LocalDateTime modelOrderDateTime = LocalDateTime.parse(orderDateTime);
             int modelQuantity = Integer.parseInt(quantity);
-            Item modelItem = new Item(itemName, Integer.parseInt(itemPoints));
+            Item modelItem = ItemTable.intern(itemName, Integer.parseInt(itemPoints));
             return new Order(modelItem, modelQuantity, modelOrderDateTime);
         } catch (DateTimeParseException e) {
             throw new IllegalValueException(Order.MESSAGE_INVALID_DATETIME);
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,17 +9,20 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddMemPointsCommand;
 import seedu.address.model.allergen.Allergen;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.LedgerEntry;
 import seedu.address.model.person.MembershipPoints;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Points;
+import seedu.address.model.person.PointsLedger;
 import seedu.address.model.person.orders.Order;
 
 /**
@@ -36,6 +40,7 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedAllergen> allergens = new ArrayList<>();
     private final String points;
     private final List<JsonAdaptedOrder> orders = new ArrayList<>();
+    private final List<JsonAdaptedLedgerEntry> ledger = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -46,7 +51,8 @@ class JsonAdaptedPerson {
                              @JsonProperty("membershipPts") String membershipPts,
                              @JsonProperty("allergens") List<JsonAdaptedAllergen> allergens,
                              @JsonProperty("points") String points,
-                             @JsonProperty("orders") List<JsonAdaptedOrder> orders) {
+                             @JsonProperty("orders") List<JsonAdaptedOrder> orders,
+                             @JsonProperty("ledger") List<JsonAdaptedLedgerEntry> ledger) {
 
         this.name = name;
         this.phone = phone;
@@ -60,6 +66,10 @@ class JsonAdaptedPerson {
         if (orders != null) {
             this.orders.addAll(orders);
         }
+        // Files saved before points were recorded have no ledger
+        if (ledger != null) {
+            this.ledger.addAll(ledger);
+        }
     }
 
     /**
@@ -78,6 +88,44 @@ class JsonAdaptedPerson {
         orders.addAll(source.getOrders().stream()
                 .map(JsonAdaptedOrder::new)
                 .collect(Collectors.toList()));
+        ledger.addAll(source.getLedger().stream()
+                .map(JsonAdaptedLedgerEntry::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} exactly as a {@code JsonAdaptedPerson} converted from it is
+     * serialized, without creating one.
+     */
+    static void write(Person source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("email", source.getEmail().value);
+        generator.writeStringField("address", source.getAddress().value);
+        generator.writeArrayFieldStart("allergens");
+        for (Allergen allergen : source.getAllergens()) {
+            generator.writeString(allergen.allergenName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("points", String.valueOf(source.getPoints().getValue()));
+        generator.writeArrayFieldStart("orders");
+        for (Order order : source.getOrders()) {
+            JsonAdaptedOrder.write(order, generator);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("ledger");
+        for (LedgerEntry entry : source.getLedger()) {
+            JsonAdaptedLedgerEntry.write(entry, generator);
+        }
+        generator.writeEndArray();
+        // Jackson puts the constructor's properties first, and membershipPoints is not one of them by that name
+        generator.writeStringField("membershipPoints", String.valueOf(source.getMembershipPoints().value));
+        generator.writeEndObject();
+    }
+
+    public String getName() {
+        return name;
     }
 
     /**
@@ -96,6 +144,11 @@ class JsonAdaptedPerson {
             personOrders.add(order.toModelType());
         }
 
+        final List<LedgerEntry> personLedger = new ArrayList<>();
+        for (JsonAdaptedLedgerEntry entry : ledger) {
+            personLedger.add(entry.toModelType());
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -133,9 +186,9 @@ class JsonAdaptedPerson {
                     MembershipPoints.class.getSimpleName()));
         }
 
-        int parsedMembershipPoints;
+        long parsedMembershipPoints;
         try {
-            parsedMembershipPoints = Integer.parseInt(membershipPoints);
+            parsedMembershipPoints = Long.parseLong(membershipPoints);
         } catch (NumberFormatException e) {
             throw new IllegalValueException(AddMemPointsCommand.MESSAGE_CONSTRAINTS);
         }
@@ -157,7 +210,7 @@ class JsonAdaptedPerson {
         final Set<Allergen> modelAllergens = new HashSet<>(personAllergens);
         final ArrayList<Order> modelOrders = new ArrayList<>(personOrders);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelMembershipPoints,
-                modelAllergens, modelPoints, modelOrders);
+                modelAllergens, modelPoints, modelOrders, PointsLedger.copyOf(personLedger));
     }
 
 }
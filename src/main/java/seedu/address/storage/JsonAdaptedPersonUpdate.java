@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.LedgerEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.orders.Order;
+
+/**
+ * Jackson-friendly version of the changes made to a person since it was last saved.
+ * Fields that did not change are left out, and only the orders and ledger entries added since are kept,
+ * so that an order or a points change costs about as much as the order or ledger entry itself.
+ * The numbers of orders and ledger entries the person had before the changes are kept as well, so that changes a
+ * person already holds, as when replaying a journal onto a snapshot written after it, are not added again.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedPersonUpdate {
+
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String membershipPoints;
+    private final List<JsonAdaptedAllergen> allergens;
+    private final String points;
+    private final List<JsonAdaptedOrder> addedOrders;
+    private final List<JsonAdaptedLedgerEntry> addedLedgerEntries;
+    private final Integer previousOrderCount;
+    private final Integer previousLedgerSize;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonUpdate} with the given changes. Null fields did not change.
+     * The previous order count and ledger size are null in journals written before they were recorded.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonUpdate(@JsonProperty("phone") String phone, @JsonProperty("email") String email,
+                                   @JsonProperty("address") String address,
+                                   @JsonProperty("membershipPoints") String membershipPoints,
+                                   @JsonProperty("allergens") List<JsonAdaptedAllergen> allergens,
+                                   @JsonProperty("points") String points,
+                                   @JsonProperty("addedOrders") List<JsonAdaptedOrder> addedOrders,
+                                   @JsonProperty("addedLedgerEntries") List<JsonAdaptedLedgerEntry>
+                                           addedLedgerEntries,
+                                   @JsonProperty("previousOrderCount") Integer previousOrderCount,
+                                   @JsonProperty("previousLedgerSize") Integer previousLedgerSize) {
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.membershipPoints = membershipPoints;
+        this.allergens = allergens;
+        this.points = points;
+        this.addedOrders = addedOrders;
+        this.addedLedgerEntries = addedLedgerEntries;
+        this.previousOrderCount = previousOrderCount;
+        this.previousLedgerSize = previousLedgerSize;
+    }
+
+    /**
+     * Returns the changes that turn {@code previous} into {@code current}, two versions of the same person,
+     * or an empty {@code Optional} if {@code current} did not just add to the orders and ledger of {@code previous}.
+     */
+    public static Optional<JsonAdaptedPersonUpdate> of(Person previous, Person current) {
+        requireNonNull(previous);
+        requireNonNull(current);
+        if (!previous.getName().equals(current.getName()) || !current.hasHistoryOf(previous)) {
+            return Optional.empty();
+        }
+
+        List<Order> orders = current.getOrders();
+        List<LedgerEntry> ledger = current.getLedger();
+        return Optional.of(new JsonAdaptedPersonUpdate(
+                changedValue(previous.getPhone().value, current.getPhone().value),
+                changedValue(previous.getEmail().value, current.getEmail().value),
+                changedValue(previous.getAddress().value, current.getAddress().value),
+                changedValue(String.valueOf(previous.getMembershipPoints().value),
+                        String.valueOf(current.getMembershipPoints().value)),
+                previous.getAllergens().equals(current.getAllergens()) ? null : toJsonAllergens(current),
+                changedValue(String.valueOf(previous.getPoints().getValue()),
+                        String.valueOf(current.getPoints().getValue())),
+                toJsonListOrNull(orders.subList(previous.getOrders().size(), orders.size()), JsonAdaptedOrder::new),
+                toJsonListOrNull(ledger.subList(previous.getLedger().size(), ledger.size()),
+                        JsonAdaptedLedgerEntry::new),
+                previous.getOrders().size(), previous.getLedger().size()));
+    }
+
+    /**
+     * Returns {@code previous} with these changes applied, or {@code previous} itself if it does not have the
+     * orders and ledger entries the person had before the changes, as when it already holds them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the changes.
+     */
+    public Person applyTo(Person previous) throws IllegalValueException {
+        requireNonNull(previous);
+        if (!isChangeOf(previous)) {
+            return previous;
+        }
+
+        // The changed fields are checked as a person without orders, exactly as a saved person is
+        Person fields = new JsonAdaptedPerson(previous.getName().fullName,
+                valueOrElse(phone, previous.getPhone().value),
+                valueOrElse(email, previous.getEmail().value),
+                valueOrElse(address, previous.getAddress().value),
+                valueOrElse(membershipPoints, String.valueOf(previous.getMembershipPoints().value)),
+                allergens != null ? allergens : toJsonAllergens(previous),
+                valueOrElse(points, String.valueOf(previous.getPoints().getValue())),
+                null, null).toModelType();
+
+        List<Order> modelOrders = new ArrayList<>();
+        if (addedOrders != null) {
+            for (JsonAdaptedOrder order : addedOrders) {
+                modelOrders.add(order.toModelType());
+            }
+        }
+        List<LedgerEntry> modelLedgerEntries = new ArrayList<>();
+        if (addedLedgerEntries != null) {
+            for (JsonAdaptedLedgerEntry entry : addedLedgerEntries) {
+                modelLedgerEntries.add(entry.toModelType());
+            }
+        }
+        Person withHistory = previous.withAddedHistory(modelOrders, modelLedgerEntries);
+
+        return new Person(fields.getName(), fields.getPhone(), fields.getEmail(), fields.getAddress(),
+                fields.getMembershipPoints(), fields.getAllergens(), fields.getPoints(), withHistory.getOrders(),
+                withHistory.getLedger());
+    }
+
+    /**
+     * Returns true if {@code previous} has as many orders and ledger entries as the person these changes were made to.
+     */
+    private boolean isChangeOf(Person previous) {
+        return (previousOrderCount == null || previousOrderCount == previous.getOrders().size())
+                && (previousLedgerSize == null || previousLedgerSize == previous.getLedger().size());
+    }
+
+    private static String changedValue(String previousValue, String currentValue) {
+        return previousValue.equals(currentValue) ? null : currentValue;
+    }
+
+    private static String valueOrElse(String value, String previousValue) {
+        return value != null ? value : previousValue;
+    }
+
+    private static <T, R> List<R> toJsonListOrNull(List<T> values, Function<T, R> toJson) {
+        return values.isEmpty() ? null : values.stream().map(toJson).collect(Collectors.toList());
+    }
+
+    private static List<JsonAdaptedAllergen> toJsonAllergens(Person person) {
+        return person.getAllergens().stream()
+                .map(JsonAdaptedAllergen::new)
+                .collect(Collectors.toList());
+    }
+}
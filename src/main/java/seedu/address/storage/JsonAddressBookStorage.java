@@ -3,10 +3,16 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,12 +25,28 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final ForkJoinPool loadPool;
 
+    /**
+     * Creates a storage for {@code filePath} that converts persons in parallel on the common fork-join pool while
+     * loading, unless there is only a single processor to run them on.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Runtime.getRuntime().availableProcessors() > 1 ? ForkJoinPool.commonPool() : null);
+    }
+
+    /**
+     * Creates a storage for {@code filePath} that converts persons on {@code loadPool} while loading,
+     * or on the loading thread if {@code loadPool} is null.
+     */
+    public JsonAddressBookStorage(Path filePath, ForkJoinPool loadPool) {
         this.filePath = filePath;
+        this.loadPool = loadPool;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +60,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read as a stream, each person being added to the address book as soon as it is read.
+     * Persons are converted on the load pool given at construction, if any.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +69,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser, loadPool));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +91,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each person is written straight from the model to a temporary file, which is then moved over the file at
+     * {@code filePath}, so that a failure part way through never leaves a truncated file behind.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +100,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        FileUtil.createIfMissing(temporaryFilePath);
+        try {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(temporaryFilePath)) {
+                JsonSerializableAddressBook.writeModelType(addressBook, generator);
+            }
+            Files.move(temporaryFilePath, filePath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw e;
+        }
     }
 
 }
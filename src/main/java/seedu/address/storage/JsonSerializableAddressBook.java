@@ -1,12 +1,21 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -24,6 +33,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_ITEM = "Items list contains duplicate item(s).";
 
+    public static final String MESSAGE_INVALID_PERSON_AT = "Person #%1$d in the persons list: %2$s";
+
+    /** Number of persons converted by each task when loading in parallel. */
+    static final int PERSONS_PER_BATCH = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedItem> items = new ArrayList<>();
 
@@ -55,20 +69,191 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addPerson(addressBook, jsonAdaptedPerson);
         }
         for (JsonAdaptedItem jsonAdaptedItem : items) {
-            Item item = jsonAdaptedItem.toModelType();
-            if (addressBook.hasItem(item.getName())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+            addItem(addressBook, jsonAdaptedItem);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book in the format written for this class from {@code parser}, converting each person and
+     * item into the model as soon as it is read. Only one person is held in its JSON form at a time, so the file never
+     * needs to fit in memory as a string or as a {@code JsonSerializableAddressBook}.
+     * Fields other than the persons and items are skipped, as when reading the whole file.
+     *
+     * @throws IOException if the content of {@code parser} is not valid JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated, as in {@link #toModelType()}.
+     *     The message names the 1-based position of the offending person in the persons list.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, null);
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but persons are converted and validated in batches of
+     * {@value #PERSONS_PER_BATCH} on {@code pool} while the rest of the file is still being read.
+     * Converted batches are added to the address book in file order, so the duplicate check and the error reported
+     * are the same as when reading sequentially: the first offending person in the file.
+     *
+     * @param pool the pool to convert persons on, or {@code null} to convert them on the calling thread.
+     */
+    public static AddressBook readModelType(JsonParser parser, ForkJoinPool pool)
+            throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (fieldName.equals("persons")) {
+                readPersons(parser, pool, addressBook);
+            } else if (fieldName.equals("items")) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addItem(addressBook, parser.readValueAs(JsonAdaptedItem.class));
+                }
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addItem(jsonAdaptedItem.toModelType());
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} exactly as a {@code JsonSerializableAddressBook} converted from it
+     * is serialized. Each person is written straight from the model, so neither adapted copies of the persons nor the
+     * whole document are held in memory.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            JsonAdaptedPerson.write(person, generator);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("items");
+        for (Item item : source.getItemList()) {
+            JsonAdaptedItem.write(item, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        addPerson(addressBook, jsonAdaptedPerson.toModelType());
+    }
+
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Reads the persons array {@code parser} is positioned at, adding each person to {@code addressBook}.
+     * With a {@code pool}, at most a couple of batches per worker are in flight, which bounds the memory held in
+     * adapted persons no matter how large the file is.
+     */
+    private static void readPersons(JsonParser parser, ForkJoinPool pool, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        int maxBatchesInFlight = pool == null ? 1 : 2 * pool.getParallelism();
+        Deque<ForkJoinTask<PersonBatch>> inFlight = new ArrayDeque<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(PERSONS_PER_BATCH);
+        int nextIndex = 0;
+        try {
+            while (true) {
+                boolean isEnd = parser.nextToken() == JsonToken.END_ARRAY;
+                if (!isEnd) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+                if (batch.size() == PERSONS_PER_BATCH || (isEnd && !batch.isEmpty())) {
+                    PersonBatch personBatch = new PersonBatch(batch, nextIndex);
+                    nextIndex += batch.size();
+                    batch = new ArrayList<>(PERSONS_PER_BATCH);
+                    if (pool == null) {
+                        personBatch.convert();
+                        personBatch.addTo(addressBook);
+                    } else {
+                        inFlight.add(pool.submit(personBatch::convert));
+                    }
+                }
+                while (!inFlight.isEmpty() && (isEnd || inFlight.size() >= maxBatchesInFlight)) {
+                    inFlight.remove().join().addTo(addressBook);
+                }
+                if (isEnd) {
+                    return;
+                }
+            }
+        } finally {
+            inFlight.forEach(task -> task.cancel(false));
+        }
+    }
+
+    /**
+     * A run of consecutive persons from the persons list, converted to the model independently of the others.
+     */
+    private static class PersonBatch {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final int firstIndex;
+        private final List<Person> persons;
+        private IllegalValueException failure;
+
+        PersonBatch(List<JsonAdaptedPerson> adaptedPersons, int firstIndex) {
+            this.adaptedPersons = adaptedPersons;
+            this.firstIndex = firstIndex;
+            this.persons = new ArrayList<>(adaptedPersons.size());
+        }
+
+        /**
+         * Converts the persons in order, stopping at the first one that is invalid.
+         */
+        PersonBatch convert() {
+            try {
+                for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+                    persons.add(adaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            }
+            return this;
+        }
+
+        /**
+         * Adds the converted persons to {@code addressBook}, then reports the invalid person if there was one.
+         */
+        void addTo(AddressBook addressBook) throws IllegalValueException {
+            for (int i = 0; i < persons.size(); i++) {
+                try {
+                    addPerson(addressBook, persons.get(i));
+                } catch (IllegalValueException ive) {
+                    throw atIndex(firstIndex + i, ive);
+                }
+            }
+            if (failure != null) {
+                throw atIndex(firstIndex + persons.size(), failure);
+            }
+        }
+
+        private static IllegalValueException atIndex(int index, IllegalValueException cause) {
+            return new IllegalValueException(String.format(MESSAGE_INVALID_PERSON_AT, index + 1, cause.getMessage()),
+                    cause);
+        }
+    }
+
+    private static void addItem(AddressBook addressBook, JsonAdaptedItem jsonAdaptedItem)
+            throws IllegalValueException {
+        Item item = jsonAdaptedItem.toModelType();
+        if (addressBook.hasItem(item.getName())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+        }
+        addressBook.addItem(item);
+    }
+
 }
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book read from a memory-mapped binary file, whose persons are decoded only when they are accessed.
+ * Opening the file reads the items and finds where each person record starts, without decoding any person.
+ *
+ * The file is mapped in regions of at most {@code maxRegionSize} bytes, each starting at a record, since a single
+ * mapping cannot be larger than 2 GB. The first region must hold the dictionary and items.
+ * A person record that cannot be decoded is reported when it is accessed, by an {@link UncheckedIOException}
+ * from the person list.
+ */
+class MappedAddressBook implements ReadOnlyAddressBook {
+
+    public static final String MESSAGE_UNREADABLE_PERSON = "Person #%1$d could not be read: %2$s";
+
+    /** Size of each mapped region of the file. */
+    static final int DEFAULT_MAX_REGION_SIZE = 1 << 30;
+
+    /** Longest encoding of a record length. */
+    private static final int MAX_LENGTH_SIZE = 5;
+
+    private final String[] dictionary;
+    private final ObservableList<Item> items;
+    private final ObservableList<Person> persons;
+
+    private final List<ByteBuffer> regions;
+    private final int[] recordRegions;
+    private final int[] recordOffsets;
+
+    private MappedAddressBook(BinaryAddressBookFormat.Header header, List<ByteBuffer> regions, int[] recordRegions,
+                              int[] recordOffsets) {
+        this.dictionary = header.dictionary;
+        this.items = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(header.items));
+        this.regions = regions;
+        this.recordRegions = recordRegions;
+        this.recordOffsets = recordOffsets;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonList()));
+    }
+
+    /**
+     * Maps the binary address book at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or does not hold a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated in the items.
+     */
+    static MappedAddressBook open(Path filePath) throws IOException, IllegalValueException {
+        return open(filePath, DEFAULT_MAX_REGION_SIZE);
+    }
+
+    /**
+     * Similar to {@link #open(Path)}, mapping the file in regions of at most {@code maxRegionSize} bytes,
+     * or larger where a single record is larger.
+     */
+    static MappedAddressBook open(Path filePath, int maxRegionSize) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            ByteBuffer region = map(channel, 0, maxRegionSize);
+            regions.add(region);
+            long regionStart = 0;
+
+            BinaryAddressBookFormat.Header header = BinaryAddressBookFormat.readHeader(region);
+            // Each record takes at least the byte of its length
+            if (header.personCount > fileSize - region.position()) {
+                throw new IOException(BinaryAddressBookFormat.MESSAGE_CORRUPT);
+            }
+            int[] recordRegions = new int[header.personCount];
+            int[] recordOffsets = new int[header.personCount];
+            for (int i = 0; i < header.personCount; i++) {
+                long recordStart = regionStart + region.position();
+                if (recordStart + MAX_LENGTH_SIZE > regionStart + region.limit()
+                        && regionStart + region.limit() < fileSize) {
+                    region = map(channel, recordStart, maxRegionSize);
+                    regions.add(region);
+                    regionStart = recordStart;
+                }
+
+                int length = BinaryAddressBookFormat.readRecordLength(region);
+                long recordEnd = regionStart + region.position() + length;
+                if (recordEnd > regionStart + region.limit()) {
+                    if (recordEnd > fileSize) {
+                        throw new IOException(BinaryAddressBookFormat.MESSAGE_CORRUPT);
+                    }
+                    // The record runs past the end of the region, so map a region that starts with it instead
+                    if (regionStart == recordStart) {
+                        regions.remove(regions.size() - 1);
+                    }
+                    region = map(channel, recordStart, Math.max(maxRegionSize, recordEnd - recordStart));
+                    regions.add(region);
+                    regionStart = recordStart;
+                    BinaryAddressBookFormat.readRecordLength(region);
+                }
+                recordRegions[i] = regions.size() - 1;
+                recordOffsets[i] = (int) (recordStart - regionStart);
+                region.position(region.position() + length);
+            }
+            if (regionStart + region.position() != fileSize) {
+                throw new IOException(BinaryAddressBookFormat.MESSAGE_CORRUPT);
+            }
+            return new MappedAddressBook(header, regions, recordRegions, recordOffsets);
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long start, long size) throws IOException {
+        long mappedSize = Math.min(size, channel.size() - start);
+        if (mappedSize > Integer.MAX_VALUE) {
+            throw new IOException(BinaryAddressBookFormat.MESSAGE_CORRUPT);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, mappedSize);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Item> getItemList() {
+        return items;
+    }
+
+    /**
+     * Decodes only the name of the person at {@code index} in the file, which is much quicker than decoding the
+     * whole person.
+     *
+     * @throws IOException if the record of the person does not start with a well-formed name.
+     * @throws IllegalValueException if the name is not a valid name.
+     */
+    Name getPersonName(int index) throws IOException, IllegalValueException {
+        return BinaryAddressBookFormat.readPersonName(getRecord(index));
+    }
+
+    /**
+     * Decodes the person at {@code index} in the file.
+     */
+    private Person decodePerson(int index) throws IOException, IllegalValueException {
+        return BinaryAddressBookFormat.readPerson(getRecord(index), dictionary);
+    }
+
+    private ByteBuffer getRecord(int index) throws IOException {
+        ByteBuffer record = regions.get(recordRegions[index]).duplicate();
+        record.position(recordOffsets[index]);
+        int length = BinaryAddressBookFormat.readRecordLength(record);
+        record.limit(record.position() + length);
+        return record;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{persons=" + recordOffsets.length + ", items=" + items.size()
+                + ", regions=" + Arrays.toString(regions.stream().mapToInt(ByteBuffer::capacity).toArray()) + "}";
+    }
+
+    /**
+     * The persons of the file, each decoded afresh whenever it is accessed.
+     */
+    private class PersonList extends AbstractList<Person> implements RandomAccess {
+        @Override
+        public Person get(int index) {
+            try {
+                return decodePerson(index);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (IllegalValueException e) {
+                throw new UncheckedIOException(String.format(MESSAGE_UNREADABLE_PERSON, index + 1, e.getMessage()),
+                        new IOException(e));
+            }
+        }
+
+        @Override
+        public int size() {
+            return recordOffsets.length;
+        }
+    }
+}
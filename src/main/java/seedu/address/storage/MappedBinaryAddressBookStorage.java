@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code BinaryAddressBookStorage} that reads the binary file through a memory mapping.
+ * Reading only finds where each person is in the file, so it returns quickly however large the file is.
+ * Each person is decoded when it is taken from the person list of the address book read, which lets the model add
+ * persons a few at a time while the app is already in use.
+ *
+ * Saving writes a temporary file that then replaces the data file, so that a mapping of the old file stays valid.
+ * Some platforms do not allow a mapped file to be replaced, and a mapping is only released once it has been garbage
+ * collected, so a replacement that fails is tried again after running the garbage collector.
+ */
+public class MappedBinaryAddressBookStorage extends BinaryAddressBookStorage {
+
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedBinaryAddressBookStorage.class);
+
+    private static final int MAX_REPLACE_ATTEMPTS = 5;
+    private static final long REPLACE_RETRY_DELAY_MILLIS = 100;
+
+    public MappedBinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Maps the binary file at {@code filePath}. The persons in the address book returned are decoded on access, and
+     * a person that cannot be decoded is reported by an {@link java.io.UncheckedIOException} from the person list.
+     */
+    @Override
+    protected ReadOnlyAddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        return MappedAddressBook.open(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        super.saveAddressBook(addressBook, temporaryFile);
+        FileUtil.createParentDirsOfFile(filePath);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            } catch (IOException ioe) {
+                if (attempt == MAX_REPLACE_ATTEMPTS) {
+                    Files.deleteIfExists(temporaryFile);
+                    throw ioe;
+                }
+                logger.info("Could not replace " + filePath + ", releasing old mappings and retrying: " + ioe);
+                System.gc();
+                try {
+                    Thread.sleep(REPLACE_RETRY_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw ioe;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Catalogue;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book made of a snapshot with journal entries replayed on top of it.
+ * Only the persons named by the entries are taken from the snapshot while replaying. Every other person is taken
+ * from the snapshot when it is accessed, so a snapshot whose persons are decoded on access stays that way.
+ *
+ * Persons changed by the entries keep their place in the snapshot, and persons added by them follow the persons of
+ * the snapshot, in the order they were first added, as if the entries had been applied to an {@code AddressBook}.
+ * Errors from the person list of the snapshot, such as an {@link UncheckedIOException} from a mapped snapshot,
+ * are passed on.
+ */
+class ReplayedAddressBook implements ReadOnlyAddressBook {
+
+    private final List<Person> snapshotPersons;
+    private final Catalogue catalogue = new Catalogue();
+    // Index in the snapshot of each person named by the entries, if the snapshot has a person by that name
+    private final Map<Name, Integer> snapshotIndices = new HashMap<>();
+    private final Map<Integer, Person> replacedPersons = new HashMap<>();
+    private final BitSet removedIndices = new BitSet();
+    private final Map<Name, Person> addedPersons = new LinkedHashMap<>();
+
+    private ObservableList<Person> persons;
+
+    private ReplayedAddressBook(ReadOnlyAddressBook snapshot) {
+        this.snapshotPersons = snapshot.getPersonList();
+        snapshot.getItemList().forEach(catalogue::addItem);
+    }
+
+    /**
+     * Returns {@code snapshot} with {@code entries} applied to it, in order.
+     *
+     * @throws IllegalValueException if an entry is invalid or holds illegal values.
+     * @throws IOException if a person named by the entries could not be read from the snapshot.
+     */
+    static ReplayedAddressBook replay(ReadOnlyAddressBook snapshot, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException, IOException {
+        ReplayedAddressBook addressBook = new ReplayedAddressBook(snapshot);
+        addressBook.findSnapshotIndices(snapshot, entries);
+        for (JsonAdaptedJournalEntry entry : entries) {
+            addressBook.apply(entry);
+        }
+        addressBook.persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(addressBook.new PersonList()));
+        return addressBook;
+    }
+
+    /**
+     * Finds where the persons named by {@code entries} are in {@code snapshot}, reading only the names of the
+     * persons of a mapped snapshot.
+     */
+    private void findSnapshotIndices(ReadOnlyAddressBook snapshot, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException, IOException {
+        Set<Name> names = new HashSet<>();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            if (isPersonEntry(entry)) {
+                names.add(entry.getPersonName());
+            }
+        }
+        if (names.isEmpty()) {
+            return;
+        }
+
+        MappedAddressBook mappedSnapshot = snapshot instanceof MappedAddressBook ? (MappedAddressBook) snapshot : null;
+        for (int i = 0; i < snapshotPersons.size(); i++) {
+            Name name = mappedSnapshot != null ? mappedSnapshot.getPersonName(i) : snapshotPersons.get(i).getName();
+            if (names.contains(name)) {
+                snapshotIndices.putIfAbsent(name, i);
+            }
+        }
+    }
+
+    private static boolean isPersonEntry(JsonAdaptedJournalEntry entry) {
+        String op = entry.getOp();
+        return JsonAdaptedJournalEntry.OP_PUT_PERSON.equals(op) || JsonAdaptedJournalEntry.OP_UPDATE_PERSON.equals(op)
+                || JsonAdaptedJournalEntry.OP_REMOVE_PERSON.equals(op);
+    }
+
+    /**
+     * Applies a single journal {@code entry}.
+     */
+    private void apply(JsonAdaptedJournalEntry entry) throws IllegalValueException {
+        String op = entry.getOp();
+        if (JsonAdaptedJournalEntry.OP_PUT_PERSON.equals(op)) {
+            putPerson(entry.toModelPerson());
+        } else if (JsonAdaptedJournalEntry.OP_UPDATE_PERSON.equals(op)) {
+            Person existing = findPerson(entry.getPersonName());
+            if (existing == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY, op));
+            }
+            putPerson(entry.applyUpdate(existing));
+        } else if (JsonAdaptedJournalEntry.OP_REMOVE_PERSON.equals(op)) {
+            removePerson(entry.getPersonName());
+        } else if (JsonAdaptedJournalEntry.OP_PUT_ITEM.equals(op)) {
+            Item item = entry.toModelItem();
+            catalogue.removeItem(item.getName());
+            catalogue.addItem(item);
+        } else if (JsonAdaptedJournalEntry.OP_REMOVE_ITEM.equals(op)) {
+            catalogue.removeItem(entry.getName());
+        } else {
+            throw new IllegalValueException(String.format(JsonAdaptedJournalEntry.MESSAGE_INVALID_ENTRY, op));
+        }
+    }
+
+    /**
+     * Returns the current version of the person named {@code name}, or null if there is none.
+     */
+    private Person findPerson(Name name) {
+        Person addedPerson = addedPersons.get(name);
+        if (addedPerson != null) {
+            return addedPerson;
+        }
+        Integer index = getSnapshotIndex(name);
+        if (index == null) {
+            return null;
+        }
+        Person replacedPerson = replacedPersons.get(index);
+        return replacedPerson != null ? replacedPerson : snapshotPersons.get(index);
+    }
+
+    /**
+     * Stores {@code person} in place of the person with the same name, or adds it after all others if there is none.
+     */
+    private void putPerson(Person person) {
+        Integer index = getSnapshotIndex(person.getName());
+        if (index != null) {
+            replacedPersons.put(index, person);
+        } else {
+            addedPersons.put(person.getName(), person);
+        }
+    }
+
+    private void removePerson(Name name) {
+        if (addedPersons.remove(name) != null) {
+            return;
+        }
+        Integer index = getSnapshotIndex(name);
+        if (index != null) {
+            removedIndices.set(index);
+            replacedPersons.remove(index);
+        }
+    }
+
+    /**
+     * Returns the index of the person of the snapshot named {@code name}, or null if there is none or it was removed.
+     */
+    private Integer getSnapshotIndex(Name name) {
+        Integer index = snapshotIndices.get(name);
+        return index != null && !removedIndices.get(index) ? index : null;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Item> getItemList() {
+        return catalogue.asUnmodifiableObservableList();
+    }
+
+    /**
+     * The persons of the snapshot that were not removed, with those changed by the entries replaced, followed by the
+     * persons added by the entries. Persons of the snapshot that were not changed are taken from it on each access.
+     */
+    private class PersonList extends AbstractList<Person> implements RandomAccess {
+        // Index in the snapshot of each person of the snapshot that was not removed, or null if none were
+        private final int[] keptIndices;
+        private final int keptCount;
+        private final List<Person> added = new ArrayList<>(addedPersons.values());
+
+        PersonList() {
+            if (removedIndices.isEmpty()) {
+                keptIndices = null;
+                keptCount = snapshotPersons.size();
+            } else {
+                keptCount = snapshotPersons.size() - removedIndices.cardinality();
+                keptIndices = new int[keptCount];
+                for (int i = 0, index = removedIndices.nextClearBit(0); i < keptCount;
+                        i++, index = removedIndices.nextClearBit(index + 1)) {
+                    keptIndices[i] = index;
+                }
+            }
+        }
+
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            if (index >= keptCount) {
+                return added.get(index - keptCount);
+            }
+            int snapshotIndex = keptIndices != null ? keptIndices[index] : index;
+            Person replacedPerson = replacedPersons.get(snapshotIndex);
+            return replacedPerson != null ? replacedPerson : snapshotPersons.get(snapshotIndex);
+        }
+
+        @Override
+        public int size() {
+            return keptCount + added.size();
+        }
+    }
+}
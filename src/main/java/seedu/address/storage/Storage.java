@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves a copy of the current contents of {@code addressBook} on a background thread.
+     * If several saves are requested before the background thread gets to them, only the latest one is written.
+     * Failures are passed to the handler set by {@link #setSaveFailureHandler(Consumer)}.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Blocks until all background saves requested so far have finished.
+     */
+    void flushBackgroundSaves();
+
+    /**
+     * Sets the handler that is called, on the background thread, when a background save fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
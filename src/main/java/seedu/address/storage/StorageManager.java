@@ -1,12 +1,20 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -20,6 +28,16 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // The latest address book waiting to be saved in the background, or null if there is none.
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private volatile Consumer<IOException> saveFailureHandler = e ->
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -70,9 +88,49 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        // Copy now, on the caller's thread, so later changes to the address book do not race with the write.
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        if (pendingAddressBook.getAndSet(snapshot) == null) {
+            saveExecutor.execute(this::savePendingAddressBook);
+        }
+    }
+
+    private void savePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            saveAddressBook(addressBook);
+        } catch (IOException e) {
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    @Override
+    public void flushBackgroundSaves() {
+        try {
+            saveExecutor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for background saves to finish");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // An empty task cannot fail.
+            throw new AssertionError(e);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
 }
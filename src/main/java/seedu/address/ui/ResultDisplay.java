@@ -33,4 +33,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Adds {@code feedbackToUser} on a new line after the feedback already shown.
+     */
+    public void appendFeedbackToUser(String feedbackToUser) {
+        requireNonNull(feedbackToUser);
+        resultDisplay.appendText("\n" + feedbackToUser);
+    }
+
 }
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows a warning to the user, returning once the user has closed it. */
+    void showWarning(String headerText, String contentText);
+
 }
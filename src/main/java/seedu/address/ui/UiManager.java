@@ -50,6 +50,11 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showWarning(String headerText, String contentText) {
+        showAlertDialogAndWait(AlertType.WARNING, "Warning", headerText, contentText);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,28 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class MathUtilTest {
+
+    @Test
+    public void saturatedAdd_inRange_returnsExactSum() {
+        assertEquals(5, MathUtil.saturatedAdd(2, 3));
+        assertEquals(-1, MathUtil.saturatedAdd(2, -3));
+        assertEquals(Long.MAX_VALUE, MathUtil.saturatedAdd(Long.MAX_VALUE - 1, 1));
+        assertEquals(3_000_000_000L, MathUtil.saturatedAdd(Integer.MAX_VALUE, 852_516_353L));
+    }
+
+    @Test
+    public void saturatedAdd_overflow_returnsMaxValue() {
+        assertEquals(Long.MAX_VALUE, MathUtil.saturatedAdd(Long.MAX_VALUE, 1));
+        assertEquals(Long.MAX_VALUE, MathUtil.saturatedAdd(Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE / 2 + 1));
+    }
+
+    @Test
+    public void saturatedAdd_underflow_returnsMinValue() {
+        assertEquals(Long.MIN_VALUE, MathUtil.saturatedAdd(Long.MIN_VALUE, -1));
+        assertEquals(Long.MIN_VALUE, MathUtil.saturatedAdd(Long.MIN_VALUE + 1, Long.MIN_VALUE + 1));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,35 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+    }
+
+    @Test
+    public void getEditDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void getEditDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce", 2)); // deletion
+        assertEquals(1, StringUtil.getEditDistance("alice", "aliece", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alixe", 2)); // substitution
+        assertEquals(2, StringUtil.getEditDistance("alice", "laice", 2)); // transposition counts as two edits
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(2, StringUtil.getEditDistance("alice", "bob", 1));
+        assertEquals(3, StringUtil.getEditDistance("alice", "alexandra", 2)); // lengths differ by too much
+        assertEquals(1, StringUtil.getEditDistance("abc", "abd", 0));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
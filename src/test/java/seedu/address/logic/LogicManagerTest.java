@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -10,28 +13,40 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.POINTS_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedBinaryAddressBookStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -73,14 +88,151 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_commandWithoutChanges_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSaveCount());
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSaveCount());
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POINTS_DESC_AMY);
+        assertEquals(2, logicManager.getSaveCount());
+    }
+
+    @Test
+    public void execute_pendingPersons_loadsPendingPersonsOnlyWhenNeeded() throws Exception {
+        Path binaryFile = temporaryFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(getTypicalAddressBook());
+        MappedBinaryAddressBookStorage addressBookStorage = new MappedBinaryAddressBookStorage(binaryFile);
+        Model partlyLoadedModel = new ModelManager(addressBookStorage.readAddressBook().get(), new UserPrefs(), 2);
+        assertEquals(2, partlyLoadedModel.getFilteredPersonList().size());
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(partlyLoadedModel, storage);
+
+        // list neither looks up persons nor saves the address book read from the file
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertTrue(partlyLoadedModel.hasPendingPersons());
+        assertEquals(0, logicManager.getSaveCount());
+
+        logicManager.execute(FindCommand.COMMAND_WORD + " Daniel");
+        assertFalse(partlyLoadedModel.hasPendingPersons());
+        assertEquals(getTypicalAddressBook(), partlyLoadedModel.getAddressBook());
+        assertEquals(List.of(DANIEL), partlyLoadedModel.getFilteredPersonList());
+        assertEquals(0, logicManager.getSaveCount());
+    }
+
+    @Test
+    public void execute_pendingPersonsChanged_savesAllPersons() throws Exception {
+        Path binaryFile = temporaryFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(getTypicalAddressBook());
+        MappedBinaryAddressBookStorage addressBookStorage = new MappedBinaryAddressBookStorage(binaryFile);
+        Model partlyLoadedModel = new ModelManager(addressBookStorage.readAddressBook().get(), new UserPrefs(), 2);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+
+        new LogicManager(partlyLoadedModel, storage).execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POINTS_DESC_AMY);
+        storage.flushBackgroundSaves();
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(new PersonBuilder(AMY).withAllergens().withMembershipPoints("0").build());
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_personNotLoaded_keepsDataFileUntilCleared() throws Exception {
+        Path binaryFile = temporaryFolder.resolve("addressBook.bin");
+        Files.copy(Paths.get("src", "test", "data", "MappedAddressBookTest", "invalidPersonAddressBook.bin"),
+                binaryFile);
+        byte[] fileBytes = Files.readAllBytes(binaryFile);
+        MappedBinaryAddressBookStorage addressBookStorage = new MappedBinaryAddressBookStorage(binaryFile);
+        Model partlyLoadedModel = new ModelManager(addressBookStorage.readAddressBook().get(), new UserPrefs(), 1);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(partlyLoadedModel, storage);
+
+        CommandResult result = logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POINTS_DESC_AMY);
+        assertEquals(3, partlyLoadedModel.getAddressBook().getPersonList().size());
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(LogicManager.MESSAGE_SAVE_BLOCKED, partlyLoadedModel.getLoadFailure().get())));
+        storage.flushBackgroundSaves();
+        assertArrayEquals(fileBytes, Files.readAllBytes(binaryFile));
+
+        logicManager.execute(ClearCommand.COMMAND_WORD + " --force");
+        storage.flushBackgroundSaves();
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_saveFailed_savesAgain() throws Exception {
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        AtomicInteger saveAttempts = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFile) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveAttempts.incrementAndGet() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POINTS_DESC_AMY);
+        storage.flushBackgroundSaves();
+        assertEquals(1, saveAttempts.get());
+
+        // list changes nothing, but the change the failed save lost is saved again
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        storage.flushBackgroundSaves();
+        assertEquals(2, saveAttempts.get());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushSaves_saveFailed_savesAgain() throws Exception {
+        AtomicInteger saveAttempts = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (saveAttempts.incrementAndGet() == 1) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POINTS_DESC_AMY);
+        logicManager.flushSaves();
+        assertEquals(2, saveAttempts.get());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // nothing failed since -> nothing saved
+        logicManager.flushSaves();
+        assertEquals(2, saveAttempts.get());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -144,11 +296,12 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command should still succeed, and the failure should be reported once the background save has run.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be passed to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -165,6 +318,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedMessages::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -172,6 +327,10 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withAllergens().withMembershipPoints("0").build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        storage.flushBackgroundSaves();
+        assertEquals(List.of(expectedMessage), reportedMessages);
     }
 }
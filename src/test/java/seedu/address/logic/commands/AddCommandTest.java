@@ -10,7 +10,13 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,8 +28,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TierChange;
+import seedu.address.model.TierChangeBus;
+import seedu.address.model.allergen.AllergenExpression;
 import seedu.address.model.item.Item;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tier;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -46,6 +59,20 @@ public class AddCommandTest {
         assertEquals(Arrays.asList(validPerson), modelStub.personsAdded);
     }
 
+    @Test
+    public void execute_sharedPhone_addSuccessfulWithNote() throws Exception {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        Person alice = new PersonBuilder().withName("Alice").withEmail("alice@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+        new AddCommand(alice).execute(modelStub);
+
+        CommandResult commandResult = new AddCommand(bob).execute(modelStub);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(bob))
+                + String.format(Messages.MESSAGE_SHARED_PHONE, "Alice"), commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(alice, bob), modelStub.personsAdded);
+    }
+
     @Test
     public void execute_duplicatePerson_throwsCommandException() {
         Person validPerson = new PersonBuilder().build();
@@ -135,6 +162,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPendingPersons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int loadPendingPersons(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void decodePendingPersonsInBackground() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> getLoadFailure() {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
 
         @Override
@@ -157,6 +209,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> findFilteredPersonsByName(String namePart) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> personNameHasAnyWord(Collection<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> findSimilarPersonNames(String text, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TierChangeBus.Subscription subscribeToTierChanges(Consumer<TierChange> subscriber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsInTier(Tier tier) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findPersonNamesWithAllergens(AllergenExpression expression) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Item> getCatalogue() {
             throw new AssertionError("This method should not be called.");
@@ -225,6 +317,18 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public List<Person> findPersonsByPhone(Phone phone) {
+            return personsAdded.stream().filter(person -> person.getPhone().equals(phone))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Person> findPersonsByEmail(Email email) {
+            return personsAdded.stream().filter(person -> person.getEmail().equals(email))
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -29,7 +29,7 @@ public class AddOrderCommandTest {
     @Test
     public void constructor_nullName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
-                new AddOrderCommand(null, "itemName", 1));
+                new AddOrderCommand((Name) null, "itemName", 1));
     }
 
     @Test
@@ -72,6 +72,28 @@ public class AddOrderCommandTest {
                 "Added order to Person: Benson Meier", expectedModel);
     }
 
+    @Test
+    public void execute_pointsBeyondIntRange_addsExactPoints() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addItem(new Item("Wedding Cake", 50_000));
+
+        // 50000 * 100000 = 5,000,000,000 points, more than an int can hold
+        LocalDateTime orderDateTime = LocalDateTime.parse("2024-01-01T07:00:00");
+        Person bensonWithAddedOrder = new PersonBuilder(BENSON).withOrders(
+                "Cookies|100|5|2012-03-21T07:45:01",
+                "Cupcake|150|2|2014-12-11T13:01:02",
+                "Wedding Cake|50000|100000|" + orderDateTime)
+                .withMembershipPoints("5000000010")
+                .withPoints("5000000070").build();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addItem(new Item("Wedding Cake", 50_000));
+        expectedModel.setPerson(BENSON, bensonWithAddedOrder);
+
+        assertCommandSuccess(new AddOrderCommand(new Name("benson"), "Wedding Cake", 100_000, orderDateTime), model,
+                "Added order to Person: Benson Meier", expectedModel);
+    }
+
     @Test
     public void execute_nameDoesNotMatchAnyPersonInFilteredPersonList_throwsCommandException() {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
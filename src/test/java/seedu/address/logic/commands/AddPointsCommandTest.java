@@ -1,13 +1,22 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalOrders.createOrders;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
@@ -17,6 +26,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Points;
 import seedu.address.testutil.PersonBuilder;
 
@@ -26,13 +36,16 @@ import seedu.address.testutil.PersonBuilder;
 public class AddPointsCommandTest {
 
     private static final String POINTS_STUB = "20";
+    private static final int MANY_ORDERS = 10000;
+    // Copying 10k orders took about 500KB per command; without copying it takes about 5KB.
+    private static final long MAX_BYTES_PER_COMMAND = 64 * 1024;
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
     @Test
     public void execute_addPointsUnfilteredList_success() {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        Integer newPoints = Integer.parseInt(POINTS_STUB) + firstPerson.getPoints().getValue();
-        Person editedPerson = new PersonBuilder(firstPerson).withPoints(Integer.toString(newPoints)).build();
+        long newPoints = Integer.parseInt(POINTS_STUB) + firstPerson.getPoints().getValue();
+        Person editedPerson = new PersonBuilder(firstPerson).withPoints(Long.toString(newPoints)).build();
 
         AddPointsCommand addPointsCommand = new AddPointsCommand(firstPerson.getName(), new Points(POINTS_STUB));
 
@@ -53,6 +66,113 @@ public class AddPointsCommandTest {
         assertCommandFailure(addPointsCommand, model, Messages.MESSAGE_PERSON_NOT_FOUND);
     }
 
+    @Test
+    public void execute_partOfName_addsToOnlyMatch() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        long newPoints = Integer.parseInt(POINTS_STUB) + firstPerson.getPoints().getValue();
+        Person editedPerson = new PersonBuilder(firstPerson).withPoints(Long.toString(newPoints)).build();
+
+        AddPointsCommand addPointsCommand = new AddPointsCommand(new Name("alice"), new Points(POINTS_STUB));
+
+        String expectedMessage = String.format(AddPointsCommand.MESSAGE_ADDPOINTS_SUCCESS, POINTS_STUB,
+                firstPerson.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        assertCommandSuccess(addPointsCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_ambiguousName_failure() {
+        AddPointsCommand addPointsCommand = new AddPointsCommand(new Name("Meier"), new Points(POINTS_STUB));
+
+        assertCommandFailure(addPointsCommand, model, String.format(Messages.MESSAGE_AMBIGUOUS_PERSON, "Meier",
+                BENSON.getName().fullName + ", " + DANIEL.getName().fullName));
+    }
+
+    @Test
+    public void execute_phone_addsToPersonWithPhone() {
+        Person editedPerson = new PersonBuilder(BENSON)
+                .withPoints(Long.toString(Integer.parseInt(POINTS_STUB) + BENSON.getPoints().getValue())).build();
+        AddPointsCommand addPointsCommand =
+                new AddPointsCommand(PersonReference.byPhone(BENSON.getPhone()), new Points(POINTS_STUB));
+
+        String expectedMessage = String.format(AddPointsCommand.MESSAGE_ADDPOINTS_SUCCESS, POINTS_STUB,
+                BENSON.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(BENSON, editedPerson);
+
+        assertCommandSuccess(addPointsCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sharedEmail_failure() {
+        Person danielWithBensonEmail = new PersonBuilder(DANIEL).withEmail(BENSON.getEmail().value).build();
+        model.setPerson(DANIEL, danielWithBensonEmail);
+        AddPointsCommand addPointsCommand =
+                new AddPointsCommand(PersonReference.byEmail(BENSON.getEmail()), new Points(POINTS_STUB));
+
+        assertCommandFailure(addPointsCommand, model, String.format(Messages.MESSAGE_AMBIGUOUS_CONTACT,
+                BENSON.getEmail(), BENSON.getName().fullName + ", " + DANIEL.getName().fullName));
+    }
+
+    @Test
+    public void execute_unknownPhone_failure() {
+        AddPointsCommand addPointsCommand =
+                new AddPointsCommand(PersonReference.byPhone(new Phone("999")), new Points(POINTS_STUB));
+
+        assertCommandFailure(addPointsCommand, model, Messages.MESSAGE_PERSON_NOT_FOUND);
+    }
+
+    @Test
+    public void execute_personWithManyOrders_ordersShared() throws Exception {
+        Person personWithOrders = new PersonBuilder().withName("Regular Customer")
+                .withOrders(createOrders(MANY_ORDERS)).build();
+        model.addPerson(personWithOrders);
+
+        new AddPointsCommand(personWithOrders.getName(), new Points(POINTS_STUB)).execute(model);
+
+        Person editedPerson = model.findFilteredPersonsByName("Regular Customer").get(0);
+        assertSame(personWithOrders.getOrders(), editedPerson.getOrders());
+    }
+
+    @Test
+    public void execute_personWithManyOrders_allocatesLittleMemory() throws Exception {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled());
+        Person personWithOrders = new PersonBuilder().withName("Regular Customer")
+                .withOrders(createOrders(MANY_ORDERS)).build();
+        model.addPerson(personWithOrders);
+        AddPointsCommand addPointsCommand = new AddPointsCommand(personWithOrders.getName(), new Points("1"));
+
+        // warm up, so that loading classes is not counted
+        for (int i = 0; i < 10; i++) {
+            addPointsCommand.execute(model);
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100; i++) {
+            addPointsCommand.execute(model);
+        }
+        long bytesPerCommand = (allocationBean.getThreadAllocatedBytes(threadId) - bytesBefore) / 100;
+
+        assertTrue(bytesPerCommand < MAX_BYTES_PER_COMMAND, "addpts allocated " + bytesPerCommand + " bytes");
+    }
+
+    @Test
+    public void execute_nameOutsideFilteredList_failure() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Name firstPersonName = getTypicalAddressBook().getPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).getName();
+        AddPointsCommand addPointsCommand = new AddPointsCommand(firstPersonName, new Points(POINTS_STUB));
+
+        assertCommandFailure(addPointsCommand, model, Messages.MESSAGE_PERSON_NOT_FOUND);
+    }
+
     @Test
     public void equals() {
         final Name firstPersonName = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).getName();
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.allergen.Allergen;
+import seedu.address.model.allergen.AllergenExpression;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final AllergenExpression LF = AllergenExpression.of(new Allergen("LF"));
+    private static final AllergenExpression GF = AllergenExpression.of(new Allergen("GF"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterLfCommand = new FilterCommand(LF);
+        FilterCommand filterGfCommand = new FilterCommand(GF);
+
+        // same object -> returns true
+        assertTrue(filterLfCommand.equals(filterLfCommand));
+
+        // same values -> returns true
+        assertTrue(filterLfCommand.equals(new FilterCommand(AllergenExpression.of(new Allergen("LF")))));
+
+        // different types -> returns false
+        assertFalse(filterLfCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterLfCommand.equals(null));
+
+        // different expression -> returns false
+        assertFalse(filterLfCommand.equals(filterGfCommand));
+        assertFalse(filterLfCommand.equals(new FilterCommand(LF.negate())));
+    }
+
+    @Test
+    public void execute_andNot_personsWithFirstAllergenOnlyFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FilterCommand command = new FilterCommand(LF.and(GF.negate()));
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_notOr_personsWithNeitherAllergenFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FilterCommand command = new FilterCommand(LF.or(GF).negate());
+        expectedModel.updateFilteredPersonList(person -> person.getAllergens().isEmpty());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownAllergen_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FilterCommand command = new FilterCommand(AllergenExpression.of(new Allergen("nuts")));
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterEdit_usesLatestAllergens() {
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withAllergens("GF").build());
+        FilterCommand command = new FilterCommand(LF);
+        command.execute(model);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FilterCommand filterCommand = new FilterCommand(LF.and(GF.negate()));
+        String expected = FilterCommand.class.getCanonicalName() + "{expression=(LF and not GF)}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
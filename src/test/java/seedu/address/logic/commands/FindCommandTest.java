@@ -5,13 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +22,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +57,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -73,11 +81,49 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsRenamedAfterwards_matchingPersonsShown() {
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+        assertEquals(List.of(CARL), model.getFilteredPersonList());
+
+        Person elleKurz = new PersonBuilder(ELLE).withName("Elle Kurz").build();
+        model.setPerson(ELLE, elleKurz);
+        assertEquals(List.of(CARL, elleKurz), model.getFilteredPersonList());
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Smith").build());
+        assertEquals(List.of(elleKurz), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyWithTypos_closestPersonsFound() {
+        // "Meier" is one typo away, "Meyer" two
+        String expectedMessage = String.format(FindCommand.MESSAGE_SIMILAR_PERSONS_LISTED, 3,
+                BENSON.getName() + ", " + DANIEL.getName() + ", " + ELLE.getName());
+        FindCommand command = new FindCommand(preparePredicate("Meiar"), true);
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON) || person.equals(DANIEL)
+                || person.equals(ELLE));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_fuzzyAllKeywordsMustMatch_singlePersonFound() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_SIMILAR_PERSONS_LISTED, 1, BENSON.getName());
+        FindCommand command = new FindCommand(preparePredicate("bensn meir"), true);
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_fuzzyNothingSimilar_noPersonFound() {
+        FindCommand command = new FindCommand(preparePredicate("Zzyzx"), true);
+        expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertCommandSuccess(command, model, FindCommand.MESSAGE_NO_PERSONS_FOUND, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", isFuzzy=false}";
         assertEquals(expected, findCommand.toString());
     }
 
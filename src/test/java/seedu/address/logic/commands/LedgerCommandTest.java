@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.orders.Order;
+
+public class LedgerCommandTest {
+
+    private static final Item CUPCAKE = new Item("Cupcake", 10);
+    private static final LocalDateTime FIRST_ORDER_TIME = LocalDateTime.of(2024, 1, 1, 10, 0, 0);
+
+    /**
+     * Returns ALICE after ordering one cupcake a second, {@code orderCount} times.
+     */
+    private static Person aliceWithOrders(int orderCount) {
+        Person alice = ALICE;
+        for (int i = 0; i < orderCount; i++) {
+            alice = alice.withOrder(new Order(CUPCAKE, 1, FIRST_ORDER_TIME.plusSeconds(i)), 10);
+        }
+        return alice;
+    }
+
+    private static Model modelWith(Person person) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    private static String entryLine(int orderIndex, int ordersBefore) {
+        return String.format(LedgerCommand.MESSAGE_ENTRY, "2024-01-01 10:00:" + String.format("%02d", orderIndex),
+                "Order", 10, 10, ALICE.getPoints().value + 10 * ordersBefore,
+                ALICE.getMembershipPoints().value + 10 * ordersBefore);
+    }
+
+    @Test
+    public void execute_firstPage_showsNewestEntries() {
+        Person alice = aliceWithOrders(12);
+        Model model = modelWith(alice);
+
+        StringBuilder expectedMessage = new StringBuilder(String.format(LedgerCommand.MESSAGE_HEADER,
+                alice.getName(), 1, 2));
+        for (int i = 11; i >= 2; i--) {
+            expectedMessage.append('\n').append(entryLine(i, i + 1));
+        }
+
+        assertCommandSuccess(new LedgerCommand(PersonReference.byName(alice.getName()), 1), model,
+                expectedMessage.toString(), modelWith(alice));
+    }
+
+    @Test
+    public void execute_lastPage_showsOpeningBalance() {
+        Person alice = aliceWithOrders(12);
+        Model model = modelWith(alice);
+
+        String expectedMessage = String.format(LedgerCommand.MESSAGE_HEADER, alice.getName(), 2, 2)
+                + "\n" + entryLine(1, 2)
+                + "\n" + entryLine(0, 1)
+                + "\n" + String.format(LedgerCommand.MESSAGE_BROUGHT_FORWARD, ALICE.getPoints().value,
+                        ALICE.getMembershipPoints().value);
+
+        assertCommandSuccess(new LedgerCommand(PersonReference.byName(alice.getName()), 2), model,
+                expectedMessage, modelWith(alice));
+    }
+
+    @Test
+    public void execute_noEntries_success() {
+        Model model = modelWith(BENSON);
+        String expectedMessage = String.format(LedgerCommand.MESSAGE_NO_ENTRIES, BENSON.getName());
+        assertCommandSuccess(new LedgerCommand(PersonReference.byName(BENSON.getName()), 1), model,
+                expectedMessage, modelWith(BENSON));
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        Person alice = aliceWithOrders(10);
+        String expectedMessage = String.format(LedgerCommand.MESSAGE_INVALID_PAGE, 2, alice.getName(), 1);
+        assertCommandFailure(new LedgerCommand(PersonReference.byName(alice.getName()), 2), modelWith(alice),
+                expectedMessage);
+    }
+
+    @Test
+    public void execute_personNotFound_throwsCommandException() {
+        LedgerCommand ledgerCommand = new LedgerCommand(PersonReference.byName(new Name("Invalid Name")), 1);
+        assertCommandFailure(ledgerCommand, modelWith(ALICE), Messages.MESSAGE_PERSON_NOT_FOUND);
+    }
+
+    @Test
+    public void equals() {
+        LedgerCommand firstPage = new LedgerCommand(PersonReference.byName(ALICE.getName()), 1);
+
+        // same object -> returns true
+        assertTrue(firstPage.equals(firstPage));
+
+        // same values -> returns true
+        assertTrue(firstPage.equals(new LedgerCommand(PersonReference.byName(ALICE.getName()), 1)));
+
+        // null -> returns false
+        assertFalse(firstPage.equals(null));
+
+        // different page -> returns false
+        assertFalse(firstPage.equals(new LedgerCommand(PersonReference.byName(ALICE.getName()), 2)));
+
+        // different person -> returns false
+        assertFalse(firstPage.equals(new LedgerCommand(PersonReference.byName(BENSON.getName()), 1)));
+    }
+}
@@ -31,8 +31,8 @@ public class RedeemPointsCommandTest {
     @Test
     public void execute_redeemPointsUnfilteredList_success() {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        Integer newPoints = firstPerson.getPoints().getValue() - Integer.parseInt(POINTS_TO_REDEEM);
-        Person editedPerson = new PersonBuilder(firstPerson).withPoints(Integer.toString(newPoints)).build();
+        long newPoints = firstPerson.getPoints().getValue() - Integer.parseInt(POINTS_TO_REDEEM);
+        Person editedPerson = new PersonBuilder(firstPerson).withPoints(Long.toString(newPoints)).build();
 
         RedeemPointsCommand redeemPointsCommand =
                 new RedeemPointsCommand(firstPerson.getName(), new Points(POINTS_TO_REDEEM));
@@ -1,6 +1,8 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -9,7 +11,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.AddPointsCommand;
+import seedu.address.logic.commands.PersonReference;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Points;
 
 public class AddPointsCommandParserTest {
@@ -25,6 +30,21 @@ public class AddPointsCommandParserTest {
 
     }
 
+    @Test
+    public void parse_phoneOrEmail_success() {
+        Points expectedPoints = new Points("50");
+        assertParseSuccess(parser, " " + PREFIX_PHONE + "98765432 " + PREFIX_POINTS + "50",
+                new AddPointsCommand(PersonReference.byPhone(new Phone("98765432")), expectedPoints));
+        assertParseSuccess(parser, " " + PREFIX_EMAIL + "alice@example.com " + PREFIX_POINTS + "50",
+                new AddPointsCommand(PersonReference.byEmail(new Email("alice@example.com")), expectedPoints));
+    }
+
+    @Test
+    public void parse_nameAndPhone_failure() {
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_PHONE + "98765432 " + PREFIX_POINTS + "50",
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, AddPointsCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         // Missing name prefix
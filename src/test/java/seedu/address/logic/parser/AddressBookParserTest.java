@@ -6,6 +6,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POINTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -24,11 +25,16 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LedgerCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PersonReference;
 import seedu.address.logic.commands.RedeemPointsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.allergen.Allergen;
+import seedu.address.model.allergen.AllergenExpression;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -85,6 +91,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " LF and not GF");
+        AllergenExpression expected = AllergenExpression.of(new Allergen("LF"))
+                .and(AllergenExpression.of(new Allergen("GF")).negate());
+        assertEquals(new FilterCommand(expected), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -136,6 +150,13 @@ public class AddressBookParserTest {
         assertEquals(new RedeemPointsCommand(name, points), command);
     }
 
+    @Test
+    public void parseCommand_ledger() throws Exception {
+        LedgerCommand command = (LedgerCommand) parser.parseCommand(LedgerCommand.COMMAND_WORD + " "
+                + PREFIX_NAME + "Alice " + PREFIX_PAGE + "2");
+        assertEquals(new LedgerCommand(PersonReference.byName(new Name("Alice")), 2), command);
+    }
+
 
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.allergen.Allergen;
+import seedu.address.model.allergen.AllergenExpression;
+
+public class FilterCommandParserTest {
+
+    private static final AllergenExpression NUTS = AllergenExpression.of(new Allergen("nuts"));
+    private static final AllergenExpression GLUTEN = AllergenExpression.of(new Allergen("gluten"));
+    private static final AllergenExpression DAIRY = AllergenExpression.of(new Allergen("dairy"));
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_singleAllergen_returnsFilterCommand() {
+        assertParseSuccess(parser, " nuts ", new FilterCommand(NUTS));
+    }
+
+    @Test
+    public void parse_operators_notThenAndThenOr() {
+        assertParseSuccess(parser, "nuts or gluten and not dairy",
+                new FilterCommand(NUTS.or(GLUTEN.and(DAIRY.negate()))));
+        assertParseSuccess(parser, "nuts AND gluten Or dairy",
+                new FilterCommand(NUTS.and(GLUTEN).or(DAIRY)));
+    }
+
+    @Test
+    public void parse_brackets_groupFirst() {
+        assertParseSuccess(parser, "(nuts or gluten) and dairy",
+                new FilterCommand(NUTS.or(GLUTEN).and(DAIRY)));
+        assertParseSuccess(parser, "not(nuts or gluten)",
+                new FilterCommand(NUTS.or(GLUTEN).negate()));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "nuts and", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "nuts gluten", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(nuts or gluten", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "nuts)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "or nuts", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidAllergen_throwsParseException() {
+        assertParseFailure(parser, "nuts or tree-nuts", Allergen.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.LedgerCommand;
+import seedu.address.logic.commands.PersonReference;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+public class LedgerCommandParserTest {
+
+    private LedgerCommandParser parser = new LedgerCommandParser();
+
+    @Test
+    public void parse_nameOnly_showsFirstPage() {
+        assertParseSuccess(parser, " n/Alice",
+                new LedgerCommand(PersonReference.byName(new Name("Alice")), 1));
+    }
+
+    @Test
+    public void parse_phoneAndPage_success() {
+        assertParseSuccess(parser, " hp/94351253 " + PREFIX_PAGE + "3",
+                new LedgerCommand(PersonReference.byPhone(new Phone("94351253")), 3));
+    }
+
+    @Test
+    public void parse_missingPerson_failure() {
+        assertParseFailure(parser, " " + PREFIX_PAGE + "2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LedgerCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPage_failure() {
+        assertParseFailure(parser, " n/Alice " + PREFIX_PAGE + "0", LedgerCommandParser.MESSAGE_INVALID_PAGE);
+        assertParseFailure(parser, " n/Alice " + PREFIX_PAGE + "two", LedgerCommandParser.MESSAGE_INVALID_PAGE);
+    }
+
+    @Test
+    public void parse_duplicatePage_failure() {
+        assertParseFailure(parser, " n/Alice " + PREFIX_PAGE + "1 " + PREFIX_PAGE + "2",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PAGE));
+    }
+}
@@ -211,6 +211,16 @@ public class ParserUtilTest {
         assertEquals(expectedPointsToAdd, ParserUtil.parseMemPointsToAdd(VALID_MEM_POINTS));
     }
 
+    @Test
+    public void parseMemPointsToAdd_beyondLongRange_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseMemPointsToAdd("9223372036854775808"));
+    }
+
+    @Test
+    public void parseMemPointsToAdd_beyondIntRange_success() throws Exception {
+        assertEquals(3_000_000_000L, ParserUtil.parseMemPointsToAdd("3000000000"));
+    }
+
     @Test
     public void parseMembershipPoints_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseMembershipPoints(null));
@@ -226,4 +236,10 @@ public class ParserUtilTest {
         MembershipPoints expectedMembershipPoints = new MembershipPoints(Integer.parseInt(VALID_MEM_POINTS));
         assertEquals(expectedMembershipPoints, ParserUtil.parseMembershipPoints(VALID_MEM_POINTS));
     }
+
+    @Test
+    public void parsePoints_beyondLongRange_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePoints("9223372036854775808"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMembershipPoints("9223372036854775808"));
+    }
 }
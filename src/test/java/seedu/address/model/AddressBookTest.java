@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ALLERGEN_GF;
@@ -44,6 +45,17 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesData() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        assertEquals(newData, addressBook);
+
+        // later changes to the source are not reflected
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -71,6 +83,27 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(ALICE));
     }
 
+    @Test
+    public void getModificationCount_afterChange_changes() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertNotEquals(initialCount, countAfterAdd);
+
+        addressBook.addItem(new Item("Croissant", 50));
+        assertNotEquals(countAfterAdd, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCount_afterReads_unchanged() {
+        addressBook.addPerson(ALICE);
+        long count = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.hasItem("Croissant");
+        addressBook.removeItem("Croissant");
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
     @Test
     public void hasPerson_personWithSameIdentityFieldsInAddressBook_returnsTrue() {
         addressBook.addPerson(ALICE);
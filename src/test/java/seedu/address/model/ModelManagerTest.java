@@ -7,17 +7,33 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.item.Item;
+import seedu.address.model.person.LedgerEntry;
+import seedu.address.model.person.MembershipPoints;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tier;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class ModelManagerTest {
 
@@ -123,6 +139,26 @@ public class ModelManagerTest {
         assertTrue(modelManager.removeItem("item") == item);
     }
 
+    @Test
+    public void setPerson_acrossTierThreshold_publishesTierChange() throws Exception {
+        Person alice = ALICE.withMembershipPoints(new MembershipPoints(1000), LedgerEntry.Kind.EDIT);
+        modelManager.addPerson(alice);
+        BlockingQueue<TierChange> received = new LinkedBlockingQueue<>();
+        try (TierChangeBus.Subscription subscription = modelManager.subscribeToTierChanges(received::add)) {
+            // staying in the same tier publishes nothing
+            Person stillBronze = alice.withMembershipPoints(new MembershipPoints(1999), LedgerEntry.Kind.EDIT);
+            modelManager.setPerson(alice, stillBronze);
+            Person silver = stillBronze.withMembershipPoints(new MembershipPoints(2000), LedgerEntry.Kind.EDIT);
+            modelManager.setPerson(stillBronze, silver);
+            modelManager.setPerson(silver, alice);
+
+            assertEquals(new TierChange(ALICE.getName(), Tier.BRONZE, Tier.SILVER),
+                    received.poll(5, TimeUnit.SECONDS));
+            assertEquals(new TierChange(ALICE.getName(), Tier.SILVER, Tier.BRONZE),
+                    received.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -164,4 +200,112 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void constructor_initialPersonCount_loadsRestOnRequest() {
+        ReadOnlyAddressBook source = readOnlyAddressBookOf(TypicalPersons.getTypicalPersons());
+        ModelManager modelManager = new ModelManager(source, new UserPrefs(), 2);
+        assertEquals(TypicalPersons.getTypicalPersons().subList(0, 2), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasPendingPersons());
+
+        assertEquals(3, modelManager.loadPendingPersons(3));
+        assertEquals(5, modelManager.getFilteredPersonList().size());
+        assertEquals(source.getPersonList().size() - 5, modelManager.loadPendingPersons(Integer.MAX_VALUE));
+        assertFalse(modelManager.hasPendingPersons());
+        assertEquals(0, modelManager.loadPendingPersons(1));
+        assertEquals(TypicalPersons.getTypicalPersons(), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void constructor_initialPersonCountOfAddressBook_loadsAllPersons() {
+        ModelManager modelManager = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs(), 2);
+        assertFalse(modelManager.hasPendingPersons());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void loadPendingPersons_duplicatePerson_stopsLoading() {
+        ModelManager modelManager = new ModelManager(readOnlyAddressBookOf(List.of(ALICE, BENSON, ALICE, CARL)),
+                new UserPrefs(), 1);
+        assertEquals(Optional.empty(), modelManager.getLoadFailure());
+        assertEquals(1, modelManager.loadPendingPersons(Integer.MAX_VALUE));
+        assertFalse(modelManager.hasPendingPersons());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Optional.of(String.format(ModelManager.MESSAGE_LOAD_FAILURE, 3, 2,
+                new DuplicatePersonException().getMessage())), modelManager.getLoadFailure());
+
+        // the address book is replaced -> failure cleared
+        modelManager.setAddressBook(new AddressBook());
+        assertEquals(Optional.empty(), modelManager.getLoadFailure());
+    }
+
+    @Test
+    public void loadPendingPersons_modificationCountUnchanged() {
+        ModelManager modelManager = new ModelManager(readOnlyAddressBookOf(TypicalPersons.getTypicalPersons()),
+                new UserPrefs(), 1);
+        long modificationCount = modelManager.getAddressBookModificationCount();
+        modelManager.loadPendingPersons(Integer.MAX_VALUE);
+        assertEquals(modificationCount, modelManager.getAddressBookModificationCount());
+
+        modelManager.deletePerson(ALICE);
+        assertFalse(modificationCount == modelManager.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void decodePendingPersonsInBackground_eachPersonDecodedOnce() throws Exception {
+        List<Person> persons = TypicalPersons.getTypicalPersons();
+        AtomicIntegerArray decodeCounts = new AtomicIntegerArray(persons.size());
+        List<Person> decodingPersons = new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                decodeCounts.incrementAndGet(index);
+                return persons.get(index);
+            }
+
+            @Override
+            public int size() {
+                return persons.size();
+            }
+        };
+        ModelManager modelManager = new ModelManager(readOnlyAddressBookOf(decodingPersons), new UserPrefs(), 1);
+
+        modelManager.decodePendingPersonsInBackground();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (decodeCounts.get(persons.size() - 1) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        modelManager.loadPendingPersons(Integer.MAX_VALUE);
+        assertEquals(persons, modelManager.getAddressBook().getPersonList());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(1, decodeCounts.get(i));
+        }
+    }
+
+    @Test
+    public void setAddressBook_pendingPersons_discardsPendingPersons() {
+        ModelManager modelManager = new ModelManager(readOnlyAddressBookOf(List.of(ALICE, BENSON)),
+                new UserPrefs(), 1);
+        modelManager.setAddressBook(new AddressBook());
+        assertFalse(modelManager.hasPendingPersons());
+        assertEquals(0, modelManager.loadPendingPersons(1));
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    /**
+     * Returns an address book with {@code persons} that is not an {@code AddressBook}, like one whose persons are
+     * decoded from a file as they are accessed.
+     */
+    private static ReadOnlyAddressBook readOnlyAddressBookOf(List<Person> persons) {
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            }
+
+            @Override
+            public ObservableList<Item> getItemList() {
+                return FXCollections.emptyObservableList();
+            }
+        };
+    }
 }
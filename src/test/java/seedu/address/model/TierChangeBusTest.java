@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Tier;
+
+public class TierChangeBusTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final TierChange UPGRADE = new TierChange(new Name("Alice Pauline"), Tier.BRONZE, Tier.SILVER);
+    private static final TierChange DOWNGRADE = new TierChange(new Name("Benson Meier"), Tier.GOLD, Tier.SILVER);
+
+    private final TierChangeBus bus = new TierChangeBus();
+
+    @Test
+    public void subscribe_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> bus.subscribe(null));
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribe(change -> {}, 0));
+    }
+
+    @Test
+    public void publish_deliversToEverySubscriberInOrder() throws Exception {
+        BlockingQueue<TierChange> first = new LinkedBlockingQueue<>();
+        BlockingQueue<TierChange> second = new LinkedBlockingQueue<>();
+        try (TierChangeBus.Subscription a = bus.subscribe(first::add);
+             TierChangeBus.Subscription b = bus.subscribe(second::add)) {
+            bus.publish(UPGRADE);
+            bus.publish(DOWNGRADE);
+
+            for (BlockingQueue<TierChange> received : new BlockingQueue[] {first, second}) {
+                assertEquals(UPGRADE, received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                assertEquals(DOWNGRADE, received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    @Test
+    public void publish_slowSubscriber_dropsOnlyItsChanges() throws Exception {
+        CountDownLatch firstChangeReceived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<TierChange> fastReceived = new LinkedBlockingQueue<>();
+        try (TierChangeBus.Subscription slow = bus.subscribe(change -> {
+            firstChangeReceived.countDown();
+            awaitQuietly(release);
+        }, 2);
+             TierChangeBus.Subscription fast = bus.subscribe(fastReceived::add)) {
+            bus.publish(UPGRADE);
+            assertTrue(firstChangeReceived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            // The slow subscriber is stuck on the first change, so two more fill its queue and the rest are dropped.
+            for (int i = 0; i < 5; i++) {
+                bus.publish(DOWNGRADE);
+            }
+            assertEquals(3, slow.getDroppedCount());
+
+            for (int i = 0; i < 6; i++) {
+                assertEquals(i == 0 ? UPGRADE : DOWNGRADE, fastReceived.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            assertEquals(0, fast.getDroppedCount());
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void publish_subscriberThrows_keepsDelivering() throws Exception {
+        BlockingQueue<TierChange> received = new LinkedBlockingQueue<>();
+        try (TierChangeBus.Subscription subscription = bus.subscribe(change -> {
+            received.add(change);
+            throw new IllegalStateException("subscriber failure");
+        })) {
+            bus.publish(UPGRADE);
+            bus.publish(DOWNGRADE);
+            assertEquals(UPGRADE, received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(DOWNGRADE, received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void close_stopsDelivery() throws Exception {
+        BlockingQueue<TierChange> received = new LinkedBlockingQueue<>();
+        TierChangeBus.Subscription subscription = bus.subscribe(received::add);
+        subscription.close();
+        bus.publish(UPGRADE);
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Tier;
+
+public class TierChangeTest {
+
+    private static final Name NAME = new Name("Alice Pauline");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TierChange(null, Tier.BRONZE, Tier.SILVER));
+        assertThrows(NullPointerException.class, () -> new TierChange(NAME, null, Tier.SILVER));
+        assertThrows(NullPointerException.class, () -> new TierChange(NAME, Tier.BRONZE, null));
+    }
+
+    @Test
+    public void isUpgrade() {
+        assertTrue(new TierChange(NAME, Tier.BRONZE, Tier.SILVER).isUpgrade());
+        assertTrue(new TierChange(NAME, Tier.GOLD, Tier.PLATINUM).isUpgrade());
+        assertFalse(new TierChange(NAME, Tier.PLATINUM, Tier.BRONZE).isUpgrade());
+    }
+
+    @Test
+    public void getDescription() {
+        assertEquals("Alice Pauline has been upgraded from SILVER to GOLD.",
+                new TierChange(NAME, Tier.SILVER, Tier.GOLD).getDescription());
+        assertEquals("Alice Pauline has been downgraded from GOLD to BRONZE.",
+                new TierChange(NAME, Tier.GOLD, Tier.BRONZE).getDescription());
+    }
+
+    @Test
+    public void equals() {
+        TierChange change = new TierChange(NAME, Tier.BRONZE, Tier.SILVER);
+        assertEquals(change, new TierChange(new Name("Alice Pauline"), Tier.BRONZE, Tier.SILVER));
+        assertEquals(change.hashCode(), new TierChange(NAME, Tier.BRONZE, Tier.SILVER).hashCode());
+        assertNotEquals(change, new TierChange(NAME, Tier.BRONZE, Tier.GOLD));
+        assertNotEquals(change, new TierChange(new Name("Bob"), Tier.BRONZE, Tier.SILVER));
+        assertNotEquals(change, null);
+    }
+}
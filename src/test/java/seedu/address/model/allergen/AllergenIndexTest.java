@@ -0,0 +1,55 @@
+package seedu.address.model.allergen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+
+public class AllergenIndexTest {
+
+    private static final Name ALICE = new Name("Alice");
+    private static final Name BOB = new Name("Bob");
+    private static final Name CAROL = new Name("Carol");
+    private static final AllergenExpression NUTS = AllergenExpression.of(new Allergen("nuts"));
+    private static final AllergenExpression GLUTEN = AllergenExpression.of(new Allergen("gluten"));
+
+    private final AllergenIndex index = new AllergenIndex();
+
+    @Test
+    public void findNames_combinedExpressions_returnsMatchingNames() {
+        index.add(ALICE, Set.of(new Allergen("nuts")));
+        index.add(BOB, Set.of(new Allergen("nuts"), new Allergen("gluten")));
+        index.add(CAROL, Collections.emptySet());
+
+        assertEquals(Set.of(ALICE, BOB), index.findNames(NUTS));
+        assertEquals(Set.of(BOB), index.findNames(NUTS.and(GLUTEN)));
+        assertEquals(Set.of(ALICE), index.findNames(NUTS.and(GLUTEN.negate())));
+        assertEquals(Set.of(CAROL), index.findNames(NUTS.or(GLUTEN).negate()));
+        assertEquals(Collections.emptySet(), index.findNames(AllergenExpression.of(new Allergen("dairy"))));
+    }
+
+    @Test
+    public void findNames_differentCase_matches() {
+        index.add(ALICE, Set.of(new Allergen("Nuts")));
+        assertEquals(Set.of(ALICE), index.findNames(NUTS));
+    }
+
+    @Test
+    public void findNames_afterRemoveAndAdd_reflectsLatestAllergens() {
+        index.add(ALICE, Set.of(new Allergen("nuts")));
+        index.add(BOB, Set.of(new Allergen("nuts")));
+        index.remove(ALICE);
+        index.add(CAROL, Set.of(new Allergen("gluten")));
+
+        assertEquals(Set.of(BOB), index.findNames(NUTS));
+        assertEquals(Set.of(CAROL), index.findNames(GLUTEN));
+        assertEquals(Set.of(BOB, CAROL), index.findNames(NUTS.and(GLUTEN).negate()));
+
+        index.clear();
+        assertEquals(Collections.emptySet(), index.findNames(NUTS.negate()));
+    }
+}
@@ -29,6 +29,25 @@ public class CatalogueTest {
         assertEquals(test, expected);
     }
 
+    @Test
+    public void addItem_sameNameDifferentCase_false() {
+        Catalogue test = new Catalogue();
+        test.addItem(new Item("Kaya Toast", 20));
+        assertFalse(test.addItem(new Item("kaya toast", 30)));
+        assertEquals(1, test.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void findItem_differentCase_returnsItem() {
+        Catalogue test = new Catalogue();
+        Item item = new Item("Kaya Toast", 20);
+        test.addItem(item);
+        assertEquals(item, test.findItem("KAYA TOAST"));
+        assertTrue(test.hasItem("kaya toast"));
+        assertEquals(item, test.removeItem("kaya TOAST"));
+        assertFalse(test.hasItem("Kaya Toast"));
+    }
+
     @Test
     public void delItem() {
         Catalogue actual = new Catalogue();
@@ -79,5 +98,30 @@ public class CatalogueTest {
         assertThrows(DuplicateItemException.class, () -> test.setItems(itemList));
     }
 
+    @Test
+    public void setItems_duplicateItems_namesDuplicates() {
+        List<Item> itemList = List.of(new Item("Hello", 2), new Item("World", 2), new Item("Hello", 3),
+                new Item("World", 4), new Item("Hello", 5));
+
+        DuplicateItemException exception = assertThrows(DuplicateItemException.class, () ->
+                new Catalogue().setItems(itemList));
+        assertEquals("Operation would result in duplicate items: Hello, World", exception.getMessage());
+    }
+
+    @Test
+    public void setItems_sameNameDifferentCase_throwsDuplicateItemException() {
+        List<Item> itemList = List.of(new Item("Hello", 2), new Item("hello", 2));
+        assertThrows(DuplicateItemException.class, () -> new Catalogue().setItems(itemList));
+    }
+
+    @Test
+    public void setItems_list_replacesIndex() {
+        Catalogue test = new Catalogue();
+        test.addItem(new Item("Old", 2));
+        test.setItems(List.of(new Item("New", 3)));
+        assertFalse(test.hasItem("Old"));
+        assertTrue(test.hasItem("new"));
+    }
+
 
 }
@@ -0,0 +1,39 @@
+package seedu.address.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ItemTableTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ItemTable.intern(null, 10));
+        assertThrows(NullPointerException.class, () -> ItemTable.intern(null));
+    }
+
+    @Test
+    public void intern_sameNameAndPoints_returnsSameInstance() {
+        Item item = ItemTable.intern("Interned Muffin", 200);
+        assertEquals(new Item("Interned Muffin", 200), item);
+        assertSame(item, ItemTable.intern("Interned Muffin", 200));
+        assertSame(item, ItemTable.intern(new Item("Interned Muffin", 200)));
+    }
+
+    @Test
+    public void intern_differentPoints_keptApart() {
+        Item cheap = ItemTable.intern("Interned Waffle", 150);
+        Item expensive = ItemTable.intern("Interned Waffle", 250);
+        assertNotEquals(cheap, expensive);
+        assertEquals(150, ItemTable.intern("Interned Waffle", 150).getPoints());
+        assertEquals(250, ItemTable.intern("Interned Waffle", 250).getPoints());
+    }
+
+    @Test
+    public void intern_differentCase_keptApart() {
+        assertNotEquals(ItemTable.intern("Interned Tart", 100), ItemTable.intern("interned tart", 100));
+    }
+}
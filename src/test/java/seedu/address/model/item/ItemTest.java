@@ -23,6 +23,7 @@ public class ItemTest {
         assertTrue(base.isSameItem(sameNameDiffPoints));
         assertFalse(base.isSameItem(diffNameDiffPoints));
         assertFalse(base.isSameItem(null));
+        assertTrue(base.isSameItem(new Item("ITEM1", 10)));
 
         //Tests equals
         assertEquals(base, base);
@@ -9,12 +9,39 @@ public class MembershipPointsTest {
     @Test
     public void getTier_test() {
         MembershipPoints points = new MembershipPoints(0);
-        assertEquals(points.getTier(), "BRONZE");
+        assertEquals(points.getTier(), Tier.BRONZE);
         points = new MembershipPoints(2500);
-        assertEquals(points.getTier(), "SILVER");
+        assertEquals(points.getTier(), Tier.SILVER);
         points = new MembershipPoints(5000);
-        assertEquals(points.getTier(), "GOLD");
+        assertEquals(points.getTier(), Tier.GOLD);
         points = new MembershipPoints(12000);
-        assertEquals(points.getTier(), "PLATINUM");
+        assertEquals(points.getTier(), Tier.PLATINUM);
+    }
+
+    @Test
+    public void getTier_thresholds() {
+        assertEquals(Tier.BRONZE, new MembershipPoints(1999).getTier());
+        assertEquals(Tier.SILVER, new MembershipPoints(2000).getTier());
+        assertEquals(Tier.SILVER, new MembershipPoints("4999").getTier());
+        assertEquals(Tier.PLATINUM, new MembershipPoints("10000").getTier());
+        assertEquals(Tier.BRONZE, new MembershipPoints().getTier());
+        assertEquals(Tier.GOLD, new MembershipPoints(1000).addPoints(4000).getTier());
+    }
+
+    @Test
+    public void addPoints_beyondIntRange_exact() {
+        assertEquals(3_000_000_000L, new MembershipPoints(Integer.MAX_VALUE).addPoints(852_516_353).value);
+    }
+
+    @Test
+    public void addPoints_beyondLongRange_saturates() {
+        MembershipPoints points = new MembershipPoints(Long.MAX_VALUE - 5).addPoints(10);
+        assertEquals(Long.MAX_VALUE, points.value);
+        assertEquals(Tier.PLATINUM, points.getTier());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("GOLD (5000 pts)", new MembershipPoints(5000).toString());
     }
 }
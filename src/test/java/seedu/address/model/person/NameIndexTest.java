@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private static final Name ALEX_YEOH = new Name("Alex Yeoh");
+    private static final Name ALEXANDRA_TAN = new Name("Alexandra Tan");
+    private static final Name BERNICE_YU = new Name("Bernice Yu");
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void findNamesContaining_ignoresCase() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.add(ALEXANDRA_TAN);
+        nameIndex.add(BERNICE_YU);
+
+        assertEquals(Set.of(ALEX_YEOH, ALEXANDRA_TAN), new HashSet<>(nameIndex.findNamesContaining("ALEX")));
+        assertEquals(List.of(ALEX_YEOH), nameIndex.findNamesContaining("x yeo"));
+        assertTrue(nameIndex.findNamesContaining("Alexis").isEmpty());
+    }
+
+    @Test
+    public void findNamesContaining_shorterThanTrigram_checksAllNames() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.add(BERNICE_YU);
+
+        assertEquals(Set.of(ALEX_YEOH, BERNICE_YU), new HashSet<>(nameIndex.findNamesContaining("e")));
+        assertEquals(List.of(BERNICE_YU), nameIndex.findNamesContaining("yu"));
+        assertEquals(2, nameIndex.findNamesContaining("").size());
+    }
+
+    @Test
+    public void findNamesContaining_allGramsPresentButNotText_noMatch() {
+        // every trigram of "abcab" appears in "Bcab Abc", but the text itself does not
+        nameIndex.add(new Name("Bcab Abc"));
+        assertTrue(nameIndex.findNamesContaining("abcab").isEmpty());
+        assertEquals(List.of(new Name("Bcab Abc")), nameIndex.findNamesContaining("cab a"));
+    }
+
+    @Test
+    public void hasAnyWord_wholeWordsOnly() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.add(ALEXANDRA_TAN);
+        nameIndex.add(BERNICE_YU);
+
+        Predicate<Name> hasAlex = nameIndex.hasAnyWord(List.of("ALEX"));
+        assertTrue(hasAlex.test(ALEX_YEOH));
+        assertFalse(hasAlex.test(ALEXANDRA_TAN));
+        Predicate<Name> hasAnyWord = nameIndex.hasAnyWord(List.of("yeoh", "Yu", "Ber"));
+        assertTrue(hasAnyWord.test(ALEX_YEOH));
+        assertTrue(hasAnyWord.test(BERNICE_YU));
+        assertFalse(hasAnyWord.test(ALEXANDRA_TAN));
+        assertFalse(nameIndex.hasAnyWord(List.of()).test(ALEX_YEOH));
+
+        // names indexed after the test was made are looked up too
+        Name alexLim = new Name("Alex Lim");
+        assertFalse(hasAlex.test(alexLim));
+        nameIndex.add(alexLim);
+        assertTrue(hasAlex.test(alexLim));
+    }
+
+    @Test
+    public void findSimilarNames_typos_closestFirst() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.add(ALEXANDRA_TAN);
+        nameIndex.add(BERNICE_YU);
+        nameIndex.add(new Name("Alec Yeo"));
+
+        // both need one typo, but "Alex Yeoh" shares more trigrams with the search text
+        assertEquals(List.of(ALEX_YEOH, new Name("Alec Yeo")), nameIndex.findSimilarNames("alex yeo", 10));
+        assertEquals(List.of(ALEX_YEOH), nameIndex.findSimilarNames("alex yeo", 1));
+        assertEquals(List.of(ALEX_YEOH), nameIndex.findSimilarNames("alx yeoh", 10));
+        assertEquals(List.of(BERNICE_YU), nameIndex.findSimilarNames("Bernise", 10));
+        assertTrue(nameIndex.findSimilarNames("Charlotte", 10).isEmpty());
+        assertTrue(nameIndex.findSimilarNames(" ", 10).isEmpty());
+    }
+
+    @Test
+    public void findSimilarNames_shortWordTypoInMiddle_found() {
+        // padded, "bob" and "bib" share no trigram, nor do "al" and "el"
+        nameIndex.add(new Name("Bob"));
+        nameIndex.add(new Name("Al Tan"));
+        nameIndex.add(BERNICE_YU);
+
+        assertEquals(List.of(new Name("Bob")), nameIndex.findSimilarNames("bib", 10));
+        assertEquals(List.of(new Name("Al Tan")), nameIndex.findSimilarNames("el", 10));
+        assertTrue(nameIndex.findSimilarNames("bibi", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedName_noLongerFound() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.add(ALEXANDRA_TAN);
+        nameIndex.remove(ALEX_YEOH);
+
+        assertEquals(List.of(ALEXANDRA_TAN), nameIndex.findNamesContaining("alex"));
+        assertEquals(List.of(ALEXANDRA_TAN), nameIndex.findNamesContaining("a"));
+        assertFalse(nameIndex.hasAnyWord(List.of("yeoh")).test(ALEX_YEOH));
+        assertTrue(nameIndex.findSimilarNames("yeoh", 10).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllNames() {
+        nameIndex.add(ALEX_YEOH);
+        nameIndex.clear();
+        assertTrue(nameIndex.findNamesContaining("alex").isEmpty());
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static seedu.address.testutil.TypicalOrders.createOrders;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import seedu.address.model.person.orders.Order;
+
+/**
+ * Compares the heap taken by orders kept as {@code Order} objects with that taken by an {@link OrderHistory} of
+ * the same orders. Everything allocated is kept, so the bytes allocated measure the heap each representation holds.
+ * Run with {@code gradlew orderFootprintBenchmark [-Porders=N]}.
+ */
+public class OrderFootprintBenchmark {
+
+    private static final int DEFAULT_ORDER_COUNT = 5_000_000;
+
+    /**
+     * Runs the benchmark on {@code args[0]} orders, or a default number of orders.
+     */
+    public static void main(String[] args) {
+        int orderCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ORDER_COUNT;
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            throw new UnsupportedOperationException("This JVM does not count the bytes allocated by a thread");
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        List<Order> orders = createOrders(orderCount);
+        long orderBytes = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = allocationBean.getThreadAllocatedBytes(threadId);
+        OrderHistory history = OrderHistory.copyOf(orders);
+        long historyBytes = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.printf("%d orders%n", history.size());
+        System.out.printf("%-14s %12s %16s%n", "representation", "heap (MB)", "bytes per order");
+        System.out.printf("%-14s %12d %16.1f%n", "orders", orderBytes >> 20, (double) orderBytes / orderCount);
+        System.out.printf("%-14s %12d %16.1f%n", "history", historyBytes >> 20, (double) historyBytes / orderCount);
+        System.out.printf("history is %.1fx smaller%n", (double) orderBytes / historyBytes);
+    }
+}
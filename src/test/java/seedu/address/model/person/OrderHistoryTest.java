@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrders.FIRST_ORDER_TIME;
+import static seedu.address.testutil.TypicalOrders.ITEM_CYCLE;
+import static seedu.address.testutil.TypicalOrders.createOrders;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.item.Item;
+import seedu.address.model.person.orders.Order;
+
+public class OrderHistoryTest {
+
+    // Large enough for the fixed costs not to matter, small enough for the unit tests' heap.
+    // OrderFootprintBenchmark measures the footprint at 5M orders.
+    private static final int FOOTPRINT_ORDER_COUNT = 200_000;
+
+    @Test
+    public void copyOf_variousSizes_sameOrders() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 1057}) {
+            List<Order> orders = createOrders(size);
+            OrderHistory history = OrderHistory.copyOf(orders);
+            assertEquals(orders, history);
+            assertEquals(orders.toString(), history.toString());
+        }
+    }
+
+    @Test
+    public void copyOf_orderHistory_returnsSameHistory() {
+        OrderHistory history = OrderHistory.copyOf(createOrders(3));
+        assertSame(history, OrderHistory.copyOf(history));
+    }
+
+    @Test
+    public void copyOf_keepsPointsAtTimeOfOrder() {
+        Order cheap = new Order(new Item("Cupcake", 100), 1, FIRST_ORDER_TIME);
+        Order expensive = new Order(new Item("Cupcake", 150), 2, FIRST_ORDER_TIME.plusDays(1));
+        OrderHistory history = OrderHistory.copyOf(List.of(cheap, expensive));
+        assertEquals(100, history.get(0).getItemPoints());
+        assertEquals(150, history.get(1).getItemPoints());
+    }
+
+    @Test
+    public void get_sameItemAndPoints_sharesItem() {
+        OrderHistory history = OrderHistory.copyOf(createOrders(40));
+        assertSame(history.get(0).item, history.get(ITEM_CYCLE).item);
+    }
+
+    @Test
+    public void append_previousVersionUnchanged() {
+        List<Order> orders = createOrders(100);
+        OrderHistory history = OrderHistory.copyOf(List.of());
+        List<OrderHistory> versions = new ArrayList<>();
+        for (Order order : orders) {
+            versions.add(history);
+            history = history.append(order);
+        }
+
+        assertEquals(orders, history);
+        for (int size = 0; size < versions.size(); size++) {
+            assertEquals(orders.subList(0, size), versions.get(size));
+        }
+    }
+
+    @Test
+    public void startsWith() {
+        List<Order> orders = createOrders(100);
+        OrderHistory history = OrderHistory.copyOf(orders);
+        for (int size : new int[] {0, 31, 32, 33, 64, 100}) {
+            OrderHistory prefix = OrderHistory.copyOf(orders.subList(0, size));
+            // Shares no chunks with the history, so the orders are compared
+            assertTrue(history.startsWith(prefix));
+            assertTrue(history.append(orders.get(0)).startsWith(prefix));
+        }
+
+        assertTrue(history.append(orders.get(0)).startsWith(history));
+        assertFalse(history.startsWith(history.append(orders.get(0))));
+        List<Order> changed = new ArrayList<>(orders.subList(0, 40));
+        changed.set(35, orders.get(36));
+        assertFalse(history.startsWith(OrderHistory.copyOf(changed)));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        OrderHistory history = OrderHistory.copyOf(createOrders(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(-1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        OrderHistory history = OrderHistory.copyOf(createOrders(3));
+        assertThrows(UnsupportedOperationException.class, () -> history.add(createOrders(1).get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> history.remove(0));
+    }
+
+    @Test
+    public void copyOf_manyOrders_atLeastFourTimesSmallerThanOrders() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+
+        // Everything allocated here is kept, so allocated bytes measure the heap each representation holds.
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        List<Order> orders = createOrders(FOOTPRINT_ORDER_COUNT);
+        long orderBytes = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = allocationBean.getThreadAllocatedBytes(threadId);
+        OrderHistory history = OrderHistory.copyOf(orders);
+        long historyBytes = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(FOOTPRINT_ORDER_COUNT, history.size());
+        assertTrue(historyBytes * 4 <= orderBytes,
+                "history used " + historyBytes + " bytes, orders used " + orderBytes + " bytes");
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void append_pastSeveralTreeLevels_keepsAllElementsInOrder() {
+        // 32 * 32 * 32 + 40 elements need a tree three levels deep.
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 32 * 32 * 32 + 40; i++) {
+            list = list.append(i);
+            expected.add(i);
+        }
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void append_previousVersionUnchanged() {
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            versions.add(list);
+            list = list.append(i);
+        }
+
+        for (int size = 0; size < versions.size(); size++) {
+            PersistentList<Integer> version = versions.get(size);
+            assertEquals(size, version.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(Integer.valueOf(i), version.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void copyOf_variousSizes_sameElements() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 1024, 1056, 1057, 40000}) {
+            List<Integer> elements = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                elements.add(i);
+            }
+            PersistentList<Integer> list = PersistentList.copyOf(elements);
+            assertEquals(elements, list);
+            assertEquals(elements.hashCode(), list.hashCode());
+
+            // appending after a bulk copy continues the same tree
+            elements.add(size);
+            assertEquals(elements, list.append(size));
+        }
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(null);
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(elements));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4));
+        assertTrue(list.equals(List.of(1, 2, 3)));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ALLERGEN_GF;
@@ -14,6 +15,8 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.item.Item;
+import seedu.address.model.person.orders.Order;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -90,6 +93,45 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void withPoints_sharesOtherFields() {
+        Person updated = ALICE.withPoints(new Points(12), LedgerEntry.Kind.MANUAL_ADD);
+        assertEquals(new PersonBuilder(ALICE).withPoints("12").build(), updated);
+        assertSame(ALICE.getAllergens(), updated.getAllergens());
+        assertSame(ALICE.getOrders(), updated.getOrders());
+    }
+
+    @Test
+    public void withPoints_recordsChangeInLedger() {
+        Person added = ALICE.withPoints(new Points(ALICE.getPoints().value + 30), LedgerEntry.Kind.MANUAL_ADD);
+        Person redeemed = added.withPoints(new Points(added.getPoints().value - 10), LedgerEntry.Kind.REDEEM);
+
+        assertEquals(ALICE.getLedger().size() + 2, redeemed.getLedger().size());
+        LedgerEntry last = redeemed.getLedger().get(redeemed.getLedger().size() - 1);
+        assertEquals(LedgerEntry.Kind.REDEEM, last.getKind());
+        assertEquals(-10, last.getPointsChange());
+        assertEquals(0, last.getMembershipPointsChange());
+        // the ledger does not take part in equality
+        assertEquals(new PersonBuilder(ALICE).withPoints(String.valueOf(ALICE.getPoints().value + 20)).build(),
+                redeemed);
+    }
+
+    @Test
+    public void withOrder_appendsOrderAndAddsPoints() {
+        Order order = new Order(new Item("Cupcake", 100), 2);
+        Person updated = ALICE.withOrder(order, 200);
+
+        assertEquals(ALICE.getOrders().size() + 1, updated.getOrders().size());
+        assertEquals(order, updated.getOrders().get(ALICE.getOrders().size()));
+        assertEquals(ALICE.getPoints().addPoints(200), updated.getPoints());
+        assertEquals(ALICE.getMembershipPoints().addPoints(200), updated.getMembershipPoints());
+        assertSame(ALICE.getAllergens(), updated.getAllergens());
+
+        // the original person is unchanged
+        assertEquals(new PersonBuilder(ALICE).build(), ALICE);
+        assertFalse(ALICE.getOrders().contains(order));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
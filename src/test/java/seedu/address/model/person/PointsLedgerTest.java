@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PointsLedgerTest {
+
+    private static final LocalDateTime FIRST_ENTRY_TIME = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+    @Test
+    public void copyOf_variousSizes_sameEntries() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 1057}) {
+            List<LedgerEntry> entries = createEntries(size);
+            PointsLedger ledger = PointsLedger.copyOf(entries);
+            assertEquals(entries, ledger);
+        }
+    }
+
+    @Test
+    public void copyOf_pointsLedger_returnsSameLedger() {
+        PointsLedger ledger = PointsLedger.copyOf(createEntries(3));
+        assertSame(ledger, PointsLedger.copyOf(ledger));
+    }
+
+    @Test
+    public void append_previousVersionUnchanged() {
+        List<LedgerEntry> entries = createEntries(100);
+        PointsLedger ledger = PointsLedger.empty();
+        List<PointsLedger> versions = new ArrayList<>();
+        for (LedgerEntry entry : entries) {
+            versions.add(ledger);
+            ledger = ledger.append(entry);
+        }
+
+        assertEquals(entries, ledger);
+        for (int size = 0; size < versions.size(); size++) {
+            assertEquals(entries.subList(0, size), versions.get(size));
+        }
+    }
+
+    @Test
+    public void startsWith() {
+        List<LedgerEntry> entries = createEntries(100);
+        PointsLedger ledger = PointsLedger.copyOf(entries);
+        for (int size : new int[] {0, 31, 32, 33, 64, 100}) {
+            assertTrue(ledger.startsWith(PointsLedger.copyOf(entries.subList(0, size))));
+        }
+
+        assertTrue(ledger.append(entries.get(0)).startsWith(ledger));
+        assertFalse(ledger.startsWith(ledger.append(entries.get(0))));
+        List<LedgerEntry> changed = new ArrayList<>(entries.subList(0, 40));
+        changed.set(35, entries.get(36));
+        assertFalse(ledger.startsWith(PointsLedger.copyOf(changed)));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PointsLedger ledger = PointsLedger.copyOf(createEntries(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.get(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.get(-1));
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        PointsLedger ledger = PointsLedger.copyOf(createEntries(2));
+        assertThrows(UnsupportedOperationException.class, () -> ledger.add(createEntries(1).get(0)));
+    }
+
+    /**
+     * Returns {@code count} entries of every kind, with negative changes for redemptions, one minute apart.
+     */
+    private static List<LedgerEntry> createEntries(int count) {
+        LedgerEntry.Kind[] kinds = LedgerEntry.Kind.values();
+        List<LedgerEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LedgerEntry.Kind kind = kinds[i % kinds.length];
+            int pointsChange = kind == LedgerEntry.Kind.REDEEM ? -i : i;
+            int membershipPointsChange = kind == LedgerEntry.Kind.REDEEM ? 0 : i * 2;
+            entries.add(new LedgerEntry(kind, pointsChange, membershipPointsChange, FIRST_ENTRY_TIME.plusMinutes(i)));
+        }
+        return entries;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -33,10 +34,18 @@ public class PointsTest {
         // valid points
         assertTrue(Points.isValidPoints("10")); // positive integer
         assertTrue(Points.isValidPoints("0")); // zero
+        assertTrue(Points.isValidPoints("3000000000")); // larger than an int
 
         // invalid points
         assertFalse(Points.isValidPoints("-1")); // negative integer
         assertFalse(Points.isValidPoints("5.5")); // non-integer
         assertFalse(Points.isValidPoints("text")); // non-numeric
+        assertFalse(Points.isValidPoints("9223372036854775808")); // larger than a long
+    }
+
+    @Test
+    public void addPoints() {
+        assertEquals(new Points(3_000_000_000L), new Points(Integer.MAX_VALUE).addPoints(852_516_353));
+        assertEquals(new Points(Long.MAX_VALUE), new Points(Long.MAX_VALUE - 5).addPoints(10));
     }
 }
@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +48,85 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findByName_afterSetPersonWithDifferentIdentity_findsEditedPersonOnly() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByName(ALICE.getName()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByName(BOB.getName()));
+    }
+
+    @Test
+    public void findByPhoneAndEmail_sharedContacts_returnsAllSortedByName() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        uniquePersonList.add(bobWithAlicePhone);
+        uniquePersonList.add(ALICE);
+
+        assertEquals(Arrays.asList(ALICE, bobWithAlicePhone), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.findByEmail(ALICE.getEmail()));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPhone(BOB.getPhone()));
+    }
+
+    @Test
+    public void findByPhoneAndEmail_afterSetPersonAndRemove_updated() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Arrays.asList(editedAlice), uniquePersonList.findByPhone(BOB.getPhone()));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPhone(BOB.getPhone()));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void countInTier_afterChanges_updated() {
+        Person goldAlice = new PersonBuilder(ALICE).withMembershipPoints("5000").build();
+        Person bronzeBob = new PersonBuilder(BOB).withMembershipPoints("10").build();
+        uniquePersonList.add(goldAlice);
+        uniquePersonList.add(bronzeBob);
+        assertEquals(1, uniquePersonList.countInTier(Tier.GOLD));
+        assertEquals(1, uniquePersonList.countInTier(Tier.BRONZE));
+
+        // moving up a tier
+        Person platinumBob = bronzeBob.withMembershipPoints(new MembershipPoints(10000), LedgerEntry.Kind.EDIT);
+        uniquePersonList.setPerson(bronzeBob, platinumBob);
+        assertEquals(0, uniquePersonList.countInTier(Tier.BRONZE));
+        assertEquals(1, uniquePersonList.countInTier(Tier.PLATINUM));
+
+        uniquePersonList.remove(goldAlice);
+        assertEquals(0, uniquePersonList.countInTier(Tier.GOLD));
+
+        uniquePersonList.setPersons(Arrays.asList(goldAlice, bronzeBob));
+        assertEquals(1, uniquePersonList.countInTier(Tier.GOLD));
+        assertEquals(1, uniquePersonList.countInTier(Tier.BRONZE));
+        assertEquals(0, uniquePersonList.countInTier(Tier.PLATINUM));
+        assertEquals(0, uniquePersonList.countInTier(Tier.SILVER));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +242,19 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_namesDuplicatesAndKeepsOwnList() {
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice, ALICE);
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons: "
+                + ALICE.getName().fullName, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.LedgerEntry.Kind;
+import seedu.address.model.person.MembershipPoints;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Points;
+import seedu.address.model.person.orders.Order;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TYPICAL_PERSONS_JSON_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_importsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.copy(TYPICAL_PERSONS_JSON_FILE, filePath);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook imported = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(imported));
+
+        // The next save rewrites the file in the binary format
+        storage.saveAddressBook(imported);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        byte[] magic = Arrays.copyOf(Files.readAllBytes(filePath), BinaryAddressBookFormat.MAGIC.length);
+        assertArrayEquals(BinaryAddressBookFormat.MAGIC, magic);
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        byte[] content = Arrays.copyOf(BinaryAddressBookFormat.MAGIC, BinaryAddressBookFormat.MAGIC.length + 1);
+        content[content.length - 1] = BinaryAddressBookFormat.VERSION + 1;
+        Files.write(filePath, content);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_hugeCount_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        byte[] content = Arrays.copyOf(BinaryAddressBookFormat.MAGIC, BinaryAddressBookFormat.MAGIC.length + 6);
+        content[BinaryAddressBookFormat.MAGIC.length] = BinaryAddressBookFormat.VERSION;
+        // A dictionary of Integer.MAX_VALUE strings, in a file of a few bytes
+        byte[] count = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        System.arraycopy(count, 0, content, BinaryAddressBookFormat.MAGIC.length + 1, count.length);
+        Files.write(filePath, content);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        ReadOnlyAddressBook withDuplicate = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableArrayList(ALICE, ALICE);
+            }
+
+            @Override
+            public ObservableList<Item> getItemList() {
+                return FXCollections.observableArrayList();
+            }
+        };
+        new BinaryAddressBookStorage(filePath).saveAddressBook(withDuplicate);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_negativePoints_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook withNegativePoints = new AddressBook();
+        withNegativePoints.addPerson(ALICE.withPoints(new Points(-5), Kind.MANUAL_ADD));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(withNegativePoints);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        AddressBook withNegativeMembershipPoints = new AddressBook();
+        withNegativeMembershipPoints.addPerson(ALICE.withMembershipPoints(new MembershipPoints(-5), Kind.REDEEM));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(withNegativeMembershipPoints);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getDetailedAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertSameData(original, readBack);
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(original.getPersonList().get(0));
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertSameData(original, readBack);
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertSameData(original, readBack);
+    }
+
+    @Test
+    public void exportToJson_roundTrip_lossless() throws Exception {
+        Path binaryFile = testFolder.resolve("addressbook.bin");
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        AddressBook original = getDetailedAddressBook();
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFile);
+        binaryStorage.saveAddressBook(original);
+
+        binaryStorage.exportToJson(jsonFile);
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(jsonFile).readAddressBook().get();
+        assertSameData(original, fromJson);
+        assertTrue(Files.size(binaryFile) < Files.size(jsonFile));
+
+        // Importing the exported file gives back the same binary file
+        byte[] exported = Files.readAllBytes(binaryFile);
+        binaryStorage.saveAddressBook(fromJson);
+        assertArrayEquals(exported, Files.readAllBytes(binaryFile));
+    }
+
+    @Test
+    public void exportToJson_missingFile_throwsDataLoadingException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("missing.bin"));
+        assertThrows(DataLoadingException.class, () -> storage.exportToJson(testFolder.resolve("out.json")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(filePath).saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).saveAddressBook(new AddressBook(),
+                        null));
+    }
+
+    /**
+     * Returns the typical address book with a catalogue, a ledger and unusual values, so that every field of the
+     * format is exercised.
+     */
+    private static AddressBook getDetailedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addItem(new Item("Cupcake", 100));
+        addressBook.addItem(new Item("Cheese Tart", Integer.MAX_VALUE));
+        Person alice = addressBook.getPersonList().get(0);
+        Person edited = alice.withPoints(new Points(Long.MAX_VALUE), Kind.MANUAL_ADD)
+                .withOrder(new Order(new Item("Cupcake", 100), 7, LocalDateTime.of(1969, 7, 20, 20, 17, 40)), 700)
+                .withMembershipPoints(new MembershipPoints(0), Kind.REDEEM);
+        addressBook.setPerson(alice, edited);
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same persons and items as {@code expected}, including each person's
+     * ledger, which {@link Person#equals(Object)} leaves out.
+     */
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new AddressBook(expected), new AddressBook(actual));
+        assertEquals(expected.getItemList(), actual.getItemList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getLedger(), actual.getPersonList().get(i).getLedger());
+        }
+    }
+}
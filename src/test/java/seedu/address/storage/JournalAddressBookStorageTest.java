@@ -0,0 +1,328 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalOrders.FIRST_ORDER_TIME;
+import static seedu.address.testutil.TypicalOrders.createOrders;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.LedgerEntry;
+import seedu.address.model.person.MembershipPoints;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Points;
+import seedu.address.model.person.orders.Order;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalAddressBookStorage createStorage(Path filePath) {
+        return new JournalAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_afterFirstSave_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // first save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        String snapshot = Files.readString(filePath);
+
+        // later saves leave the snapshot untouched and append one record per change
+        Person editedBenson = new PersonBuilder(BENSON).withPoints("999").build();
+        original.setPerson(BENSON, editedBenson);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addItem(new Item("Croissant", 50));
+        original.removeItem("Cupcake");
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // saving without changes appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        createStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, new AddressBook(createStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoresIncompleteEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"putPerson\",\"per".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(createStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointThresholdReached_writesSnapshotAndClearsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(
+                new JsonAddressBookStorage(filePath), 2, Duration.ofDays(1));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCheckpoint();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saves after the checkpoint go to a fresh journal
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(createStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unfinishedCheckpoint_replaysBothJournals() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulate a crash after the journal was moved aside but before the snapshot was replaced
+        Path journal = storage.getJournalFilePath();
+        Files.move(journal, journal.resolveSibling(
+                journal.getFileName() + JournalAddressBookStorage.CHECKPOINT_JOURNAL_FILE_SUFFIX));
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(createStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checkpointWrittenButJournalNotDeleted_replaysBothJournals() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Item item = new Item("Cupcake", 100);
+        Person withOrder = BENSON.withOrder(new Order(item, 2, FIRST_ORDER_TIME.plusYears(5)), 200);
+        original.setPerson(BENSON, withOrder);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulate a crash after the checkpoint replaced the snapshot but before it deleted the moved journal
+        Path journal = storage.getJournalFilePath();
+        Files.move(journal, journal.resolveSibling(
+                journal.getFileName() + JournalAddressBookStorage.CHECKPOINT_JOURNAL_FILE_SUFFIX));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Person withSecondOrder = withOrder.withOrder(new Order(item, 1, FIRST_ORDER_TIME.plusYears(6)), 100);
+        original.setPerson(withOrder, withSecondOrder);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        Person readBackBenson = readBack.getPersonList().stream()
+                .filter(withSecondOrder::isSamePerson).findFirst().get();
+        assertEquals(withSecondOrder.getLedger(), readBackBenson.getLedger());
+    }
+
+    @Test
+    public void saveAddressBook_orderAddedToLongHistory_journalsOnlyTheChange() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Person regular = new PersonBuilder().withName("Regular Customer").withOrders(createOrders(1000)).build();
+        original.addPerson(regular);
+        storage.saveAddressBook(original);
+
+        Item item = new Item("Cupcake", 100);
+        Person withOrder = regular.withOrder(new Order(item, 2, FIRST_ORDER_TIME.plusYears(5)), 200);
+        Person withPoints = withOrder.withPoints(new Points(5), LedgerEntry.Kind.REDEEM);
+        original.setPerson(regular, withPoints);
+        Person editedBenson = BENSON.withMembershipPoints(new MembershipPoints(50), LedgerEntry.Kind.MANUAL_ADD);
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        List<String> records = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(2, records.size());
+        for (String record : records) {
+            assertTrue(record.contains(JsonAdaptedJournalEntry.OP_UPDATE_PERSON));
+            // One order and a few ledger entries, not a thousand orders
+            assertTrue(record.length() < 1000, record);
+        }
+
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        Person readBackRegular = readBack.getPersonList().stream()
+                .filter(withPoints::isSamePerson).findFirst().get();
+        assertEquals(withPoints.getLedger(), readBackRegular.getLedger());
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_updatesNotAppliedTwice() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Item item = new Item("Cupcake", 100);
+        Person withOrder = BENSON.withOrder(new Order(item, 2, FIRST_ORDER_TIME.plusYears(5)), 200);
+        original.setPerson(BENSON, withOrder);
+        Person withPoints = withOrder.withPoints(new Points(5), LedgerEntry.Kind.REDEEM);
+        original.setPerson(withOrder, withPoints);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // simulate a crash after a snapshot holding the journal was written but before the journal was deleted
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = createStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        Person readBackBenson = readBack.getPersonList().stream()
+                .filter(withPoints::isSamePerson).findFirst().get();
+        assertEquals(withPoints.getOrders(), readBackBenson.getOrders());
+        assertEquals(withPoints.getLedger(), readBackBenson.getLedger());
+    }
+
+    @Test
+    public void saveAddressBook_ordersRewritten_journalsWholePerson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person withoutOrders = new PersonBuilder(BENSON).withPhone("91234567").withOrders(List.of()).build();
+        original.setPerson(BENSON, withoutOrders);
+        storage.saveAddressBook(original);
+
+        List<String> records = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).contains(JsonAdaptedJournalEntry.OP_PUT_PERSON));
+        assertEquals(original, new AddressBook(createStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_updateOfMissingPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getJournalFilePath(),
+                "{\"op\":\"updatePerson\",\"name\":\"Nobody\",\"update\":{\"points\":\"5\"}}\n".getBytes(UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journaledMappedFile_untouchedPersonsNotDecoded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(new MappedBinaryAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withPoints("999").build();
+        original.setPerson(BENSON, editedBenson);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournalAddressBookStorage readingStorage =
+                new JournalAddressBookStorage(new MappedBinaryAddressBookStorage(filePath));
+        ReadOnlyAddressBook read = readingStorage.readAddressBook().get();
+        List<Person> persons = read.getPersonList();
+        int aliceIndex = persons.indexOf(ALICE);
+        int bensonIndex = persons.indexOf(editedBenson);
+        // Persons the journal does not name are still decoded from the file on each access
+        assertNotSame(persons.get(aliceIndex), persons.get(aliceIndex));
+        assertSame(persons.get(bensonIndex), persons.get(bensonIndex));
+
+        AddressBook readBack = new AddressBook(read);
+        assertEquals(original, readBack);
+
+        // The persons decoded again are not taken for changed persons by the next save
+        readBack.addPerson(IDA);
+        readingStorage.saveAddressBook(readBack);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void readAddressBook_journalNamesUnreadablePerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook withNegativePoints = new AddressBook();
+        withNegativePoints.addPerson(ALICE.withPoints(new Points(-5), LedgerEntry.Kind.MANUAL_ADD));
+        new MappedBinaryAddressBookStorage(filePath).saveAddressBook(withNegativePoints);
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), ("{\"op\":\"updatePerson\",\"name\":\""
+                + ALICE.getName().fullName + "\",\"update\":{\"points\":\"5\"}}\n").getBytes(UTF_8));
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournalAddressBookStorage(new MappedBinaryAddressBookStorage(filePath)).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("export.json");
+        JournalAddressBookStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+}
@@ -15,9 +15,12 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddMemPointsCommand;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.LedgerEntry.Kind;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Points;
+import seedu.address.model.person.PointsLedger;
 import seedu.address.model.person.orders.Order;
 
 public class JsonAdaptedPersonTest {
@@ -51,6 +54,9 @@ public class JsonAdaptedPersonTest {
     private static final List<JsonAdaptedOrder> VALID_ORDERS = BENSON.getOrders().stream()
             .map(JsonAdaptedOrder::new)
             .collect(Collectors.toList());
+    private static final List<JsonAdaptedLedgerEntry> VALID_LEDGER = BENSON.getLedger().stream()
+            .map(JsonAdaptedLedgerEntry::new)
+            .collect(Collectors.toList());
 
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
@@ -58,11 +64,35 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_withLedger_keepsLedger() throws Exception {
+        Person bensonWithLedger = BENSON.withPoints(new Points(BENSON.getPoints().value + 5), Kind.MANUAL_ADD);
+        Person person = new JsonAdaptedPerson(bensonWithLedger).toModelType();
+        assertEquals(bensonWithLedger.getLedger(), person.getLedger());
+    }
+
+    @Test
+    public void toModelType_missingLedger_returnsPersonWithEmptyLedger() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, null);
+        assertEquals(BENSON, person.toModelType());
+        assertEquals(PointsLedger.empty(), person.toModelType().getLedger());
+    }
+
+    @Test
+    public void toModelType_invalidLedgerKind_throwsIllegalValueException() {
+        List<JsonAdaptedLedgerEntry> invalidLedger = new ArrayList<>(VALID_LEDGER);
+        invalidLedger.add(new JsonAdaptedLedgerEntry("GIFT", "5", "0", VALID_ORDER_DATETIME));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, invalidLedger);
+        assertThrows(IllegalValueException.class, JsonAdaptedLedgerEntry.MESSAGE_INVALID_KIND, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_MEMBERSHIP,
-                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -70,7 +100,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -79,7 +109,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_MEMBERSHIP,
-                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -87,7 +117,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS,
-                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -96,7 +126,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS, VALID_MEMBERSHIP,
-                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -104,7 +134,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_ADDRESS,
-                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -113,7 +143,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS, VALID_MEMBERSHIP,
-                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -121,7 +151,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
-                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -132,7 +162,7 @@ public class JsonAdaptedPersonTest {
         invalidAllergens.add(new JsonAdaptedAllergen(INVALID_ALLERGEN));
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_MEMBERSHIP,
-                        invalidAllergens, VALID_POINTS, VALID_ORDERS);
+                        invalidAllergens, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
@@ -140,7 +170,7 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidPoints_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_MEMBERSHIP,
-                        VALID_ALLERGENS, INVALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, INVALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = Points.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -148,7 +178,7 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPoints_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                VALID_MEMBERSHIP, VALID_ALLERGENS, null, VALID_ORDERS);
+                VALID_MEMBERSHIP, VALID_ALLERGENS, null, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Points.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -160,7 +190,7 @@ public class JsonAdaptedPersonTest {
                 VALID_ORDER_QUANTITY, VALID_ORDER_DATETIME));
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, invalidOrders);
+                        VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, invalidOrders, VALID_LEDGER);
         String expectedMessage = Order.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -172,7 +202,7 @@ public class JsonAdaptedPersonTest {
                 VALID_ORDER_QUANTITY, INVALID_ORDERDATETIME));
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, invalidOrders);
+                        VALID_MEMBERSHIP, VALID_ALLERGENS, VALID_POINTS, invalidOrders, VALID_LEDGER);
         String expectedMessage = Order.MESSAGE_INVALID_DATETIME;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -181,16 +211,37 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidMembershipPoints1_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, INVALID_MEM_POINTS1,
-                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = AddMemPointsCommand.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_pointsBeyondLongRange_throwsIllegalValueException() {
+        String tooLarge = "9223372036854775808";
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                tooLarge, VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
+        assertThrows(IllegalValueException.class, AddMemPointsCommand.MESSAGE_CONSTRAINTS, person::toModelType);
+
+        person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_MEMBERSHIP,
+                VALID_ALLERGENS, tooLarge, VALID_ORDERS, VALID_LEDGER);
+        assertThrows(IllegalValueException.class, Points.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_pointsBeyondIntRange_returnsPerson() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                "3000000000", VALID_ALLERGENS, "4000000000", VALID_ORDERS, VALID_LEDGER);
+        Person modelPerson = person.toModelType();
+        assertEquals(3_000_000_000L, modelPerson.getMembershipPoints().value);
+        assertEquals(4_000_000_000L, modelPerson.getPoints().value);
+    }
+
     @Test
     public void toModelType_invalidMembershipPoints2_throwsIllegalValueException() {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, INVALID_MEM_POINTS2,
-                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS);
+                        VALID_ALLERGENS, VALID_POINTS, VALID_ORDERS, VALID_LEDGER);
         String expectedMessage = AddMemPointsCommand.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
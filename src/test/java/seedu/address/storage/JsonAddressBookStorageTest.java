@@ -9,15 +9,22 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +93,43 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_failsPartWay_keepsExistingFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook failing = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableList(new AbstractList<Person>() {
+                    @Override
+                    public Person get(int index) {
+                        if (index > 0) {
+                            throw new IllegalStateException("Person could not be read");
+                        }
+                        return HOON;
+                    }
+
+                    @Override
+                    public int size() {
+                        return 2;
+                    }
+                });
+            }
+
+            @Override
+            public ObservableList<Item> getItemList() {
+                return FXCollections.observableArrayList();
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> jsonAddressBookStorage.saveAddressBook(failing));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json"
+                + JsonAddressBookStorage.TEMPORARY_FILE_SUFFIX)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
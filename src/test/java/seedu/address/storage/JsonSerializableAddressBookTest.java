@@ -1,16 +1,31 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.item.Item;
+import seedu.address.model.person.LedgerEntry.Kind;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Points;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +35,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +62,126 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_sameAsToModelType() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addItem(new Item("Cupcake", 100));
+        Path file = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file);
+
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            assertEquals(JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType(),
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_PERSON_FILE)) {
+            String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_AT, 2,
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_notAnObject_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("array.json");
+        FileUtil.writeToFile(file, "[]");
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void writeModelType_sameBytesAsSaveJsonFile() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, alice.withPoints(new Points(alice.getPoints().value + 7), Kind.MANUAL_ADD));
+        addressBook.addItem(new Item("Cr\u00e8me \"Br\u00fbl\u00e9e\"", 100));
+
+        for (AddressBook source : new AddressBook[] {addressBook, new AddressBook()}) {
+            Path expectedFile = testFolder.resolve("expected.json");
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(source), expectedFile);
+            Path actualFile = testFolder.resolve("actual.json");
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(actualFile)) {
+                JsonSerializableAddressBook.writeModelType(source, generator);
+            }
+            assertArrayEquals(Files.readAllBytes(expectedFile), Files.readAllBytes(actualFile));
+        }
+    }
+
+    @Test
+    public void readModelType_parallel_sameAsSequential() throws Exception {
+        AddressBook addressBook = getManyPersonsAddressBook();
+        Path file = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file);
+
+        assertEquals(addressBook, readInParallel(file));
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            assertEquals(addressBook, JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_parallelDuplicateInLaterBatch_reportsFirstDuplicate() throws Exception {
+        int duplicateIndex = JsonSerializableAddressBook.PERSONS_PER_BATCH * 2;
+        Path file = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(getManyPersonsAddressBook()), file);
+        FileUtil.writeToFile(file, FileUtil.readFromFile(file)
+                .replace("\"Member " + duplicateIndex + "\"", "\"Member 7\"")
+                .replace("\"Member " + (duplicateIndex + 2) + "\"", "\"Member 8\""));
+
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_AT,
+                duplicateIndex + 1, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), () -> readInParallel(file));
+    }
+
+    @Test
+    public void readModelType_parallelInvalidPerson_reportsIndex() throws Exception {
+        AddressBook addressBook = getManyPersonsAddressBook();
+        int invalidIndex = JsonSerializableAddressBook.PERSONS_PER_BATCH + 3;
+        Person invalid = addressBook.getPersonList().get(invalidIndex);
+        addressBook.setPerson(invalid, new PersonBuilder(invalid).withPhone("987654321").build());
+        Path file = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file);
+        FileUtil.writeToFile(file, FileUtil.readFromFile(file).replace("987654321", "+9876"));
+
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_AT,
+                invalidIndex + 1, Phone.MESSAGE_CONSTRAINTS), () -> readInParallel(file));
+    }
+
+    private static AddressBook readInParallel(Path file) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            return JsonSerializableAddressBook.readModelType(parser, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns an address book with persons spanning a few batches, the last one partly filled.
+     */
+    private static AddressBook getManyPersonsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < JsonSerializableAddressBook.PERSONS_PER_BATCH * 2 + 5; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Member " + i).build());
+        }
+        return addressBook;
+    }
 }
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalPersons;
+
+public class MappedAddressBookTest {
+
+    // The files are mapped, so they are not written to here: a mapped file cannot be replaced on all platforms.
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "MappedAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.bin");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.bin");
+    private static final Path TRUNCATED_FILE = TEST_DATA_FOLDER.resolve("truncatedAddressBook.bin");
+    private static final Path TRAILING_BYTES_FILE = TEST_DATA_FOLDER.resolve("trailingBytesAddressBook.bin");
+
+    @Test
+    public void open_typicalPersonsFile_sameAsBinaryStorage() throws Exception {
+        ReadOnlyAddressBook expected = new BinaryAddressBookStorage(TYPICAL_PERSONS_FILE).readAddressBook().get();
+        MappedAddressBook mapped = MappedAddressBook.open(TYPICAL_PERSONS_FILE);
+
+        assertEquals(expected.getItemList(), mapped.getItemList());
+        assertEquals(expected.getPersonList(), mapped.getPersonList());
+        assertEquals(TypicalPersons.getTypicalPersons(), mapped.getPersonList());
+    }
+
+    @Test
+    public void open_smallRegions_sameAsOneRegion() throws Exception {
+        MappedAddressBook oneRegion = MappedAddressBook.open(TYPICAL_PERSONS_FILE);
+        // Just larger than the header, so that the persons are spread over several regions
+        for (int maxRegionSize : new int[] {128, 150, 256}) {
+            MappedAddressBook regions = MappedAddressBook.open(TYPICAL_PERSONS_FILE, maxRegionSize);
+            assertEquals(oneRegion.getItemList(), regions.getItemList());
+            assertEquals(oneRegion.getPersonList(), regions.getPersonList());
+        }
+    }
+
+    @Test
+    public void getPersonList_decodesOnAccess() throws Exception {
+        MappedAddressBook mapped = MappedAddressBook.open(TYPICAL_PERSONS_FILE);
+        List<Person> persons = mapped.getPersonList();
+        int last = persons.size() - 1;
+        assertEquals(TypicalPersons.getTypicalPersons().get(last), persons.get(last));
+        // Each access decodes the person afresh
+        assertTrue(persons.get(0) != persons.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> persons.remove(0));
+    }
+
+    @Test
+    public void getPersonList_invalidPerson_throwsOnAccessOnly() throws Exception {
+        MappedAddressBook mapped = MappedAddressBook.open(INVALID_PERSON_FILE);
+        List<Person> persons = mapped.getPersonList();
+        assertEquals(TypicalPersons.getTypicalPersons().get(0), persons.get(0));
+        assertThrows(UncheckedIOException.class, String.format(MappedAddressBook.MESSAGE_UNREADABLE_PERSON, 3,
+                Name.MESSAGE_CONSTRAINTS), () -> persons.get(2));
+        assertEquals(TypicalPersons.getTypicalPersons().get(3), persons.get(3));
+    }
+
+    @Test
+    public void open_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> MappedAddressBook.open(TRUNCATED_FILE));
+        assertThrows(IOException.class, () -> MappedAddressBook.open(TRUNCATED_FILE, 128));
+    }
+
+    @Test
+    public void open_hugePersonCount_throwsIoException(@TempDir Path temporaryFolder) throws Exception {
+        Path filePath = temporaryFolder.resolve("addressbook.bin");
+        byte[] content = Arrays.copyOf(BinaryAddressBookFormat.MAGIC, BinaryAddressBookFormat.MAGIC.length + 8);
+        content[BinaryAddressBookFormat.MAGIC.length] = BinaryAddressBookFormat.VERSION;
+        // No strings, no items and Integer.MAX_VALUE persons, in a file of a few bytes
+        byte[] count = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        System.arraycopy(count, 0, content, BinaryAddressBookFormat.MAGIC.length + 3, count.length);
+        Files.write(filePath, content);
+        assertThrows(IOException.class, BinaryAddressBookFormat.MESSAGE_CORRUPT, () ->
+                MappedAddressBook.open(filePath));
+    }
+
+    @Test
+    public void open_trailingBytes_throwsIoException() {
+        assertThrows(IOException.class, () -> MappedAddressBook.open(TRAILING_BYTES_FILE));
+    }
+
+    @Test
+    public void open_modelLoadsIncrementally() throws Exception {
+        ModelManager modelManager = new ModelManager(MappedAddressBook.open(TYPICAL_PERSONS_FILE), new UserPrefs(), 3);
+        assertEquals(3, modelManager.getFilteredPersonList().size());
+        modelManager.loadPendingPersons(Integer.MAX_VALUE);
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        assertEquals(expected.getPersonList(), modelManager.getAddressBook().getPersonList());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.LogManager;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.allergen.Allergen;
+import seedu.address.model.item.Item;
+import seedu.address.model.item.ItemTable;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.LedgerEntry;
+import seedu.address.model.person.MembershipPoints;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Points;
+import seedu.address.model.person.orders.Order;
+
+/**
+ * Compares the file size and the save and load times of {@link JsonAddressBookStorage} and
+ * {@link BinaryAddressBookStorage}, reading the binary file both as a stream and through a memory mapping,
+ * on a generated address book. The open time is that of reading the file; the load time adds getting every person,
+ * which is when a memory-mapped file decodes them.
+ * Run with {@code gradlew storageBenchmark [-Ppersons=N]}.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20_000;
+    private static final int ORDERS_PER_PERSON = 20;
+    private static final int RUNS = 3;
+    private static final String[] ITEM_NAMES = {"Cupcake", "Cookies", "Kaya Toast", "Cheese Tart", "Egg Tart"};
+
+    /**
+     * Runs the benchmark on an address book with {@code args[0]} persons, or a default number of persons.
+     */
+    public static void main(String[] args) throws Exception {
+        LogManager.getLogManager().reset();
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = generateAddressBook(personCount);
+        Path folder = Files.createTempDirectory("storageBenchmark");
+
+        System.out.printf("%d persons with %d orders each, best of %d runs%n", personCount, ORDERS_PER_PERSON, RUNS);
+        System.out.printf("%-8s %12s %10s %10s %10s%n", "format", "size (KB)", "save (ms)", "open (ms)", "load (ms)");
+        Path jsonFile = folder.resolve("addressbook.json");
+        run("json", new JsonAddressBookStorage(jsonFile), jsonFile, addressBook);
+        Path binaryFile = folder.resolve("addressbook.bin");
+        run("binary", new BinaryAddressBookStorage(binaryFile), binaryFile, addressBook);
+        Path mappedFile = folder.resolve("mapped.bin");
+        run("mapped", new MappedBinaryAddressBookStorage(mappedFile), mappedFile, addressBook);
+
+        Files.delete(jsonFile);
+        Files.delete(binaryFile);
+        Files.deleteIfExists(mappedFile);
+        Files.delete(folder);
+    }
+
+    private static void run(String format, AddressBookStorage storage, Path file, ReadOnlyAddressBook addressBook)
+            throws Exception {
+        long bestSave = Long.MAX_VALUE;
+        long bestOpen = Long.MAX_VALUE;
+        long bestLoad = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            bestSave = Math.min(bestSave, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            ReadOnlyAddressBook loaded = storage.readAddressBook().get();
+            bestOpen = Math.min(bestOpen, System.nanoTime() - start);
+            List<Person> persons = new ArrayList<>(loaded.getPersonList());
+            bestLoad = Math.min(bestLoad, System.nanoTime() - start);
+            if (persons.size() != addressBook.getPersonList().size()) {
+                throw new AssertionError(format + " storage lost persons");
+            }
+        }
+        System.out.printf("%-8s %12d %10d %10d %10d%n", format, Files.size(file) / 1024,
+                bestSave / 1_000_000, bestOpen / 1_000_000, bestLoad / 1_000_000);
+    }
+
+    private static AddressBook generateAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (String itemName : ITEM_NAMES) {
+            addressBook.addItem(new Item(itemName, 100));
+        }
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < personCount; i++) {
+            List<Order> orders = new ArrayList<>();
+            for (int j = 0; j < ORDERS_PER_PERSON; j++) {
+                Item item = ItemTable.intern(ITEM_NAMES[(i + j) % ITEM_NAMES.length], 100);
+                orders.add(new Order(item, 1 + j % 3, start.plusMinutes(37L * i + 1440L * j)));
+            }
+            Person person = new Person(new Name("Member " + i), new Phone(String.format("9%07d", i)),
+                    new Email("member" + i + "@example.com"), new Address(i + " Clementi Ave 2"),
+                    new MembershipPoints(i % 20_000), Set.of(new Allergen("GF")), new Points(i % 700), orders);
+            addressBook.addPerson(person.withPoints(new Points(i % 700 + 50), LedgerEntry.Kind.MANUAL_ADD));
+        }
+        return addressBook;
+    }
+}
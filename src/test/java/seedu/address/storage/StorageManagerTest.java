@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -60,6 +61,30 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookInBackground_laterChanges_savesStateAtRequestTime() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+
+        storageManager.flushBackgroundSaves();
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_burstOfSaves_savesLatestState() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (int i = 0; i < 20; i++) {
+            storageManager.saveAddressBookInBackground(original);
+        }
+        original.addPerson(HOON);
+        storageManager.saveAddressBookInBackground(original);
+
+        storageManager.flushBackgroundSaves();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.allergen.Allergen;
@@ -89,6 +90,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code orders} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withOrders(List<Order> orders) {
+        this.orders = new ArrayList<>(orders);
+        return this;
+    }
+
     /**
      * Sets the {@code Address} of the {@code Person} that we are building.
      */
@@ -0,0 +1,36 @@
+package seedu.address.testutil;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.item.Item;
+import seedu.address.model.person.orders.Order;
+
+/**
+ * A utility class containing orders to be used in tests.
+ */
+public class TypicalOrders {
+
+    public static final LocalDateTime FIRST_ORDER_TIME = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+    /** Number of orders after which the item names and points of {@link #createOrders(int)} repeat. */
+    public static final int ITEM_CYCLE = 28;
+
+    private static final String[] ITEM_NAMES = {"Cupcake", "Cookies", "Kaya Toast", "Cheese Tart"};
+    private static final int ITEM_POINTS_VARIANTS = ITEM_CYCLE / ITEM_NAMES.length;
+
+    private TypicalOrders() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} orders a minute apart, each with its own {@code Item} as when they are read from storage.
+     */
+    public static List<Order> createOrders(int count) {
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Item item = new Item(ITEM_NAMES[i % ITEM_NAMES.length], 100 + i % ITEM_POINTS_VARIANTS);
+            orders.add(new Order(item, 1 + i % 5, FIRST_ORDER_TIME.plusMinutes(i)));
+        }
+        return orders;
+    }
+}